@@ -0,0 +1,106 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.ClassNameResolver;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Synthetic data and the minimal Spring context the builders need: a {@link ClassNameResolver} (benchmarks
+ * use fully qualified class names) and the {@code dataSources} map.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BenchmarkSupport {
+
+    private static final String[] COLUMNS = IntStream.range(0, SyntheticItem.MAX_WIDTH)
+            .mapToObj(i -> switch (i) {
+                case 0 -> "id";
+                case 1 -> "amount";
+                case 2 -> "name";
+                default -> String.format("c%02d", i);
+            })
+            .toArray(String[]::new);
+
+    static String[] columns(int width) {
+        if (width < 1 || width > SyntheticItem.MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be between 1 and " + SyntheticItem.MAX_WIDTH + ": " + width);
+        }
+        return Arrays.copyOf(COLUMNS, width);
+    }
+
+    static String value(long row, int column) {
+        return switch (column) {
+            case 0 -> Long.toString(row);
+            case 1 -> Double.toString(row * 1.25);
+            case 2 -> "name-" + row;
+            default -> "v" + (row % 97) + "-" + column;
+        };
+    }
+
+    static String line(long row, int width) {
+        StringBuilder line = new StringBuilder(width * 8);
+        for (int c = 0; c < width; c++) {
+            if (c > 0) {
+                line.append(',');
+            }
+            line.append(value(row, c));
+        }
+        return line.toString();
+    }
+
+    static SyntheticItem item(long row, int width) {
+        SyntheticItem item = new SyntheticItem();
+        for (int c = 0; c < width; c++) {
+            item.setColumn(c, value(row, c));
+        }
+        return item;
+    }
+
+    /**
+     * Writes a CSV file of {@code lines} rows and {@code width} columns, without header.
+     */
+    static Path writeCsv(int lines, int width) {
+        try {
+            Path file = Files.createTempFile("bench-" + width + "-", ".csv");
+            file.toFile().deleteOnExit();
+            try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (long row = 0; row < lines; row++) {
+                    out.write(line(row, width));
+                    out.newLine();
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static ApplicationContext context(Map<String, DataSource> dataSources) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(ClassNameResolver.class, () -> new ClassNameResolver(context));
+        context.registerBean("dataSources", Map.class, () -> dataSources);
+        context.refresh();
+        return context;
+    }
+
+    static ComponentConfig component(String name, String type, Map<String, Object> config) {
+        ComponentConfig component = new ComponentConfig();
+        component.setName(name);
+        component.setType(type);
+        component.setConfig(config);
+        return component;
+    }
+}
@@ -0,0 +1,66 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.JdbcPagingReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds a component {@code config} map as Spring Boot hands it over, with lists as numeric-keyed maps:
+ * {@link MapUtils#normalizeMapStructure(Object)} alone and followed by the DTO mapping every builder does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigBindingBenchmark {
+
+    @Param({"1", "8", "32"})
+    private int sortKeys;
+
+    private Map<String, Object> config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> sortClause = new LinkedHashMap<>();
+        for (int i = 0; i < sortKeys; i++) {
+            sortClause.put(Integer.toString(i), Map.of("key", "c" + i, "order", i % 2 == 0 ? "ASCENDING" : "DESCENDING"));
+        }
+        Map<String, Object> clause = new LinkedHashMap<>();
+        clause.put("selectClause", "SELECT *");
+        clause.put("fromClause", "FROM bench_item");
+        clause.put("sortClause", sortClause);
+
+        config = new LinkedHashMap<>();
+        config.put("datasource", "bench");
+        config.put("providerType", "H2");
+        config.put("rowMapperClass", SyntheticItem.class.getName());
+        config.put("clause", clause);
+    }
+
+    @Benchmark
+    public Object normalize() {
+        return MapUtils.normalizeMapStructure(config);
+    }
+
+    @Benchmark
+    public JdbcPagingReaderConfig normalizeAndBind() {
+        return MapUtils.mapToConfigDto(MapUtils.normalizeMapStructure(config), JdbcPagingReaderConfig.class);
+    }
+}
@@ -0,0 +1,72 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import com.marbl.declarative_batch.spring_declarative_batch.support.mapping.DirectFieldSetMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps one tokenized line to a {@link SyntheticItem}: {@link BeanWrapperFieldSetMapper} (the default of the
+ * readers), {@link DirectFieldSetMapper} ({@code mappingMode: DIRECT}) and a hand-written mapper as baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldSetMapperBenchmark {
+
+    @Param({"4", "16", "32"})
+    private int width;
+
+    @Param({"BEAN_WRAPPER", "DIRECT", "HAND_WRITTEN"})
+    private String mapper;
+
+    private FieldSet fieldSet;
+    private FieldSetMapper<SyntheticItem> fieldSetMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] names = BenchmarkSupport.columns(width);
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setNames(names);
+        fieldSet = tokenizer.tokenize(BenchmarkSupport.line(42, width));
+
+        fieldSetMapper = switch (mapper) {
+            case "BEAN_WRAPPER" -> {
+                BeanWrapperFieldSetMapper<SyntheticItem> beanWrapper = new BeanWrapperFieldSetMapper<>();
+                beanWrapper.setTargetType(SyntheticItem.class);
+                yield beanWrapper;
+            }
+            case "DIRECT" -> DirectFieldSetMapper.of(SyntheticItem.class, names);
+            default -> fields -> {
+                SyntheticItem item = new SyntheticItem();
+                for (int i = 0; i < fields.getFieldCount(); i++) {
+                    item.setColumn(i, fields.readRawString(i));
+                }
+                return item;
+            };
+        };
+    }
+
+    @Benchmark
+    public SyntheticItem map() throws Exception {
+        return fieldSetMapper.mapFieldSet(fieldSet);
+    }
+}
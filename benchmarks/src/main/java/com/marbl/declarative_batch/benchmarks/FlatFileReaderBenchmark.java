@@ -0,0 +1,91 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import com.marbl.declarative_batch.spring_declarative_batch.builder.reader.FlatFileReaderBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.builder.reader.MappedCsvReaderBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.context.ApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a whole synthetic CSV file through the readers built by {@link FlatFileReaderBuilder} and
+ * {@link MappedCsvReaderBuilder}, for each mapping mode and file width. One operation reads {@value #LINES} lines.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlatFileReaderBenchmark {
+
+    static final int LINES = 10_000;
+
+    @Param({"4", "16", "32"})
+    private int width;
+
+    @Param({"BEAN_WRAPPER", "DIRECT"})
+    private String mappingMode;
+
+    @Param({"FlatFileItemReader", "MappedCsvItemReader"})
+    private String readerType;
+
+    private Path file;
+    private ItemStreamReader<SyntheticItem> reader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        file = BenchmarkSupport.writeCsv(LINES, width);
+        ApplicationContext context = BenchmarkSupport.context(Map.of());
+        ComponentConfig config = BenchmarkSupport.component("benchmarkReader", readerType, Map.of(
+                "resource", "file:" + file.toAbsolutePath(),
+                "fieldNames", List.of(BenchmarkSupport.columns(width)),
+                "fieldMapperClass", SyntheticItem.class.getName(),
+                "mappingMode", mappingMode));
+        reader = readerType.equals("MappedCsvItemReader")
+                ? MappedCsvReaderBuilder.build(config, context)
+                : FlatFileReaderBuilder.build(config, context);
+    }
+
+    @Benchmark
+    public long readAll(Blackhole blackhole) throws Exception {
+        reader.open(new ExecutionContext());
+        try {
+            long count = 0;
+            SyntheticItem item;
+            while ((item = reader.read()) != null) {
+                blackhole.consume(item);
+                count++;
+            }
+            return count;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,86 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.FlatFileWriterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Writes {@value #CHUNKS} chunks of {@value #CHUNK_SIZE} items with the writer built by
+ * {@link FlatFileWriterBuilder}, for each aggregation mode and item width. One operation writes a whole file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlatFileWriterBenchmark {
+
+    static final int CHUNKS = 10;
+    static final int CHUNK_SIZE = 1_000;
+
+    @Param({"4", "16", "32"})
+    private int width;
+
+    @Param({"BEAN_WRAPPER", "DIRECT"})
+    private String aggregationMode;
+
+    private Path file;
+    private Chunk<SyntheticItem> chunk;
+    private FlatFileItemWriter<SyntheticItem> writer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("bench-out-", ".csv");
+        chunk = new Chunk<>(LongStream.range(0, CHUNK_SIZE).mapToObj(row -> BenchmarkSupport.item(row, width)).toList());
+        writer = FlatFileWriterBuilder.build(BenchmarkSupport.component("benchmarkWriter", "FlatFileItemWriter", Map.of(
+                "resource", file.toAbsolutePath().toString(),
+                "fieldNames", List.of(BenchmarkSupport.columns(width)),
+                "aggregationMode", aggregationMode)));
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws IOException {
+        // The builder enables append: start every file from scratch
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void writeFile() throws Exception {
+        writer.open(new ExecutionContext());
+        try {
+            for (int i = 0; i < CHUNKS; i++) {
+                writer.write(chunk);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
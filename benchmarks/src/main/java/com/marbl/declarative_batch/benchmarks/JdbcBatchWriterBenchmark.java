@@ -0,0 +1,106 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.JdbcBatchWriterBuilder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Inserts {@value #ROWS} rows into an in-memory H2 table with the writer built by {@link JdbcBatchWriterBuilder},
+ * one transaction per chunk as in a chunk step, for different chunk sizes and rows per statement. One operation
+ * loads all the rows, so the scores of the different chunk sizes are comparable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdbcBatchWriterBenchmark {
+
+    static final int ROWS = 10_000;
+    static final String INSERT_SQL = "INSERT INTO bench_item (id, amount, name) VALUES (?, ?, ?)";
+
+    @Param({"100", "1000", "5000"})
+    private int chunkSize;
+
+    @Param({"1", "16"})
+    private int rowsPerStatement;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private List<Chunk<SyntheticItem>> chunks;
+    private JdbcBatchItemWriter<SyntheticItem> writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS bench_item (id BIGINT, amount DOUBLE PRECISION, name VARCHAR(64))");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        List<SyntheticItem> items = LongStream.range(0, ROWS).mapToObj(row -> BenchmarkSupport.item(row, 3)).toList();
+        chunks = LongStream.range(0, (ROWS + chunkSize - 1) / chunkSize)
+                .mapToObj(i -> new Chunk<>(items.subList((int) i * chunkSize, Math.min(ROWS, (int) (i + 1) * chunkSize))))
+                .toList();
+
+        Map<String, Object> config = new HashMap<>();
+        config.put("datasource", "bench");
+        config.put("sql", INSERT_SQL);
+        config.put("preparedStatementClass", SyntheticItemStatementSetter.class.getName());
+        if (rowsPerStatement > 1) {
+            config.put("rowsPerStatement", rowsPerStatement);
+        }
+        writer = JdbcBatchWriterBuilder.build(BenchmarkSupport.component("benchmarkWriter", "JdbcBatchItemWriter", config),
+                BenchmarkSupport.context(Map.of("bench", dataSource)));
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE bench_item");
+    }
+
+    @Benchmark
+    public void writeAll() {
+        for (Chunk<SyntheticItem> chunk : chunks) {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    writer.write(chunk);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE bench_item");
+        dataSource.close();
+    }
+}
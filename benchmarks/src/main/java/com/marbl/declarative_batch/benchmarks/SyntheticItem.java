@@ -0,0 +1,87 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import lombok.Data;
+
+/**
+ * Item with up to {@value #MAX_WIDTH} columns: a {@code long}, a {@code double} and text. Benchmarks bind
+ * the first {@code width} columns, the remaining properties stay {@code null}.
+ */
+@Data
+public class SyntheticItem {
+
+    public static final int MAX_WIDTH = 32;
+
+    private long id;
+    private double amount;
+    private String name;
+    private String c03;
+    private String c04;
+    private String c05;
+    private String c06;
+    private String c07;
+    private String c08;
+    private String c09;
+    private String c10;
+    private String c11;
+    private String c12;
+    private String c13;
+    private String c14;
+    private String c15;
+    private String c16;
+    private String c17;
+    private String c18;
+    private String c19;
+    private String c20;
+    private String c21;
+    private String c22;
+    private String c23;
+    private String c24;
+    private String c25;
+    private String c26;
+    private String c27;
+    private String c28;
+    private String c29;
+    private String c30;
+    private String c31;
+
+    /**
+     * Hand-written binding of the column at {@code index}, the baseline of the mapper benchmarks.
+     */
+    public void setColumn(int index, String value) {
+        switch (index) {
+            case 0 -> id = Long.parseLong(value.trim());
+            case 1 -> amount = Double.parseDouble(value.trim());
+            case 2 -> name = value;
+            case 3 -> c03 = value;
+            case 4 -> c04 = value;
+            case 5 -> c05 = value;
+            case 6 -> c06 = value;
+            case 7 -> c07 = value;
+            case 8 -> c08 = value;
+            case 9 -> c09 = value;
+            case 10 -> c10 = value;
+            case 11 -> c11 = value;
+            case 12 -> c12 = value;
+            case 13 -> c13 = value;
+            case 14 -> c14 = value;
+            case 15 -> c15 = value;
+            case 16 -> c16 = value;
+            case 17 -> c17 = value;
+            case 18 -> c18 = value;
+            case 19 -> c19 = value;
+            case 20 -> c20 = value;
+            case 21 -> c21 = value;
+            case 22 -> c22 = value;
+            case 23 -> c23 = value;
+            case 24 -> c24 = value;
+            case 25 -> c25 = value;
+            case 26 -> c26 = value;
+            case 27 -> c27 = value;
+            case 28 -> c28 = value;
+            case 29 -> c29 = value;
+            case 30 -> c30 = value;
+            case 31 -> c31 = value;
+            default -> throw new IndexOutOfBoundsException("Column " + index + " of " + MAX_WIDTH);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.marbl.declarative_batch.benchmarks;
+
+import org.springframework.batch.item.database.ItemPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds {@code id}, {@code amount} and {@code name} of {@link JdbcBatchWriterBenchmark#INSERT_SQL}.
+ */
+public class SyntheticItemStatementSetter implements ItemPreparedStatementSetter<SyntheticItem> {
+
+    @Override
+    public void setValues(SyntheticItem item, PreparedStatement ps) throws SQLException {
+        ps.setLong(1, item.getId());
+        ps.setDouble(2, item.getAmount());
+        ps.setString(3, item.getName());
+    }
+}
@@ -0,0 +1,24 @@
+package com.marbl.declarative_batch.benchmarks.load;
+
+import lombok.Data;
+
+@Data
+public class ColumnSpec {
+
+    public enum ColumnType {
+        SEQUENCE, // 1, 2, 3, ... unique and never corrupted
+        LONG,
+        DOUBLE,
+        STRING,
+        DATE,
+        BOOLEAN
+    }
+
+    private String name;
+    private ColumnType type = ColumnType.STRING;
+    private int length = 16; // STRING: characters of each value
+    private long cardinality = 0; // distinct values, 0 for random values on every row
+    private double skew = 0; // Zipf exponent over the distinct values, 0 for uniform
+    private double min = 0; // LONG/DOUBLE: lower bound
+    private double max = 1_000_000; // LONG/DOUBLE: upper bound
+}
@@ -0,0 +1,29 @@
+package com.marbl.declarative_batch.benchmarks.load;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class DataSpec {
+
+    public enum Target {
+        TABLE, // (re)created in 'datasource'
+        CSV    // written to 'file'
+    }
+
+    private Target target = Target.TABLE;
+    private long rows = 100_000;
+    private long seed = 42;
+    private double errorRate = 0; // fraction of corrupt rows: missing field in CSV, NULL value in TABLE
+
+    private String datasource = "load";
+    private String table = "load_source";
+
+    private String file = "target/load/source.csv";
+    private String delimiter = ",";
+    private boolean header = false;
+
+    private List<ColumnSpec> columns = new ArrayList<>();
+}
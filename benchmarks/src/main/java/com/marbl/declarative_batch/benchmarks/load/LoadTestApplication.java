@@ -0,0 +1,51 @@
+package com.marbl.declarative_batch.benchmarks.load;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.DeclarativeBatchAutoConfiguration;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.BatchJobConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.datasource.BatchSchemaInitializer;
+import com.marbl.declarative_batch.spring_declarative_batch.support.executor.BatchJobExecutor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.batch.BatchAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Load test of a declarative job on synthetic data.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.marbl.declarative_batch.benchmarks.load.LoadTestApplication \
+ *     --spring.config.additional-location=file:load/jdbc-copy-job.yml,file:load/table-data.yml
+ * </pre>
+ *
+ * <p>The first file declares the {@code bulk.batch-job} under test, the second the {@code load} data spec;
+ * {@code application.yml} provides the H2 datasource {@code load}, whose job repository schema is created at startup. Exits with status 1
+ * when a run does not complete.</p>
+ */
+@SpringBootApplication(exclude = {BatchAutoConfiguration.class, DataSourceAutoConfiguration.class})
+@Import({DeclarativeBatchAutoConfiguration.class, BatchSchemaInitializer.class})
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(LoadTestApplication.class, args);
+        int exitCode;
+        try {
+            LoadTestReport report = context.getBean(LoadTestRunner.class).run();
+            exitCode = report.runs().stream().allMatch(run -> run.status().equals("COMPLETED")) ? 0 : 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    @Bean
+    public LoadTestRunner loadTestRunner(LoadTestProperties properties, BatchJobConfig jobConfig,
+                                         BatchJobExecutor jobExecutor, ApplicationContext context) {
+        return new LoadTestRunner(properties, jobConfig, jobExecutor, context);
+    }
+}
@@ -0,0 +1,18 @@
+package com.marbl.declarative_batch.benchmarks.load;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "load")
+public class LoadTestProperties {
+
+    private DataSpec data = new DataSpec();
+    private int runs = 1; // job executions on the same data, setupSql runs before each one
+    private String setupDatasource = "load";
+    private List<String> setupSql = new ArrayList<>(); // e.g. (re)create the target tables
+    private String report = "target/load-report.json";
+}
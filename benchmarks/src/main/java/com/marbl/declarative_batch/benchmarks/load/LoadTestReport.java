@@ -0,0 +1,28 @@
+package com.marbl.declarative_batch.benchmarks.load;
+
+import java.util.List;
+
+/**
+ * Results of a load test, written as JSON to {@code load.report}.
+ *
+ * @param job          the job name
+ * @param rows         generated rows
+ * @param generationMs time spent generating the data
+ * @param runs         one entry per job execution
+ */
+public record LoadTestReport(String job, long rows, long generationMs, List<Run> runs) {
+
+    /**
+     * @param peakHeapBytes sum of the peak usage of the heap memory pools during the run
+     * @param gcCount       collections during the run
+     * @param gcMs          collection time during the run
+     */
+    public record Run(int run, String status, long wallMs, long peakHeapBytes, long gcCount, long gcMs,
+                      List<Step> steps) {
+    }
+
+    public record Step(String name, String status, long wallMs, long readCount, long writeCount,
+                       long filterCount, long skipCount, long commitCount, long rollbackCount,
+                       double readPerSecond, double writePerSecond) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.marbl.declarative_batch.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.BatchJobConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.executor.BatchJobExecutor;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.DatasourceUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Generates the synthetic data, runs the job {@code load.runs} times through {@link BatchJobExecutor} and
+ * reports per-step wall time and throughput with the peak heap and GC activity of each run.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestRunner {
+
+    private final LoadTestProperties properties;
+    private final BatchJobConfig jobConfig;
+    private final BatchJobExecutor jobExecutor;
+    private final ApplicationContext context;
+
+    /**
+     * @return the report, whose runs are all {@code COMPLETED} when the load test succeeded
+     */
+    public LoadTestReport run() throws IOException {
+        DataSpec data = properties.getData();
+        long start = System.nanoTime();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(data);
+        if (data.getTarget() == DataSpec.Target.CSV) {
+            generator.generateCsv();
+        } else {
+            generator.generateTable(DatasourceUtils.getDataSource(context, data.getDatasource()));
+        }
+        long generationMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        List<LoadTestReport.Run> runs = new ArrayList<>();
+        for (int run = 1; run <= properties.getRuns(); run++) {
+            runs.add(execute(run));
+        }
+
+        LoadTestReport report = new LoadTestReport(jobConfig.getName(), data.getRows(), generationMs, runs);
+        print(report);
+        Path reportFile = Path.of(properties.getReport()).toAbsolutePath();
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        log.info("Load test report written to '{}'", reportFile);
+        return report;
+    }
+
+    private LoadTestReport.Run execute(int run) {
+        if (!properties.getSetupSql().isEmpty()) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(DatasourceUtils.getDataSource(context, properties.getSetupDatasource()));
+            properties.getSetupSql().forEach(jdbcTemplate::execute);
+        }
+
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcCount = gcCount();
+        long gcMs = gcMillis();
+        long start = System.nanoTime();
+
+        JobExecution execution = jobExecutor.runJob(new JobParametersBuilder()
+                .addLong("load.run", System.currentTimeMillis())
+                .toJobParameters());
+
+        long wallMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        List<LoadTestReport.Step> steps = execution == null ? List.of()
+                : execution.getStepExecutions().stream().map(LoadTestRunner::step).toList();
+        String status = execution == null ? BatchStatus.FAILED.name() : execution.getStatus().name();
+        return new LoadTestReport.Run(run, status, wallMs, peakHeap, gcCount() - gcCount, gcMillis() - gcMs, steps);
+    }
+
+    private static LoadTestReport.Step step(StepExecution step) {
+        LocalDateTime end = step.getEndTime() != null ? step.getEndTime() : LocalDateTime.now();
+        long wallMs = step.getStartTime() != null ? Duration.between(step.getStartTime(), end).toMillis() : 0;
+        double seconds = Math.max(wallMs, 1) / 1000.0;
+        return new LoadTestReport.Step(step.getStepName(), step.getStatus().name(), wallMs,
+                step.getReadCount(), step.getWriteCount(), step.getFilterCount(), step.getSkipCount(),
+                step.getCommitCount(), step.getRollbackCount(),
+                Math.round(step.getReadCount() / seconds), Math.round(step.getWriteCount() / seconds));
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).filter(count -> count > 0).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).filter(time -> time > 0).sum();
+    }
+
+    private static void print(LoadTestReport report) {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%nLoad test of job '%s': %d rows generated in %d ms%n", report.job(), report.rows(), report.generationMs()));
+        for (LoadTestReport.Run run : report.runs()) {
+            out.append(String.format(Locale.ROOT, "Run %d: %s in %d ms, peak heap %.1f MB, GC %d collections / %d ms%n",
+                    run.run(), run.status(), run.wallMs(), run.peakHeapBytes() / 1048576.0, run.gcCount(), run.gcMs()));
+            out.append(String.format(Locale.ROOT, "  %-30s %-10s %10s %10s %10s %8s %10s %12s%n",
+                    "step", "status", "wall ms", "read", "written", "skipped", "rollbacks", "written/s"));
+            for (LoadTestReport.Step step : run.steps()) {
+                out.append(String.format(Locale.ROOT, "  %-30s %-10s %10d %10d %10d %8d %10d %12.0f%n",
+                        step.name(), step.status(), step.wallMs(), step.readCount(), step.writeCount(),
+                        step.skipCount(), step.rollbackCount(), step.writePerSecond()));
+            }
+        }
+        System.out.print(out);
+    }
+}
@@ -0,0 +1,220 @@
+package com.marbl.declarative_batch.benchmarks.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates the rows described by a {@link DataSpec} into an H2 table or a CSV file.
+ *
+ * <p>Values are reproducible for a given {@code seed}. A column with a {@code cardinality} draws one of that
+ * many distinct values, uniformly or following a Zipf distribution of exponent {@code skew}; without it
+ * every row gets a random value. A fraction {@code errorRate} of the rows is corrupt: in a CSV the row lacks
+ * its last field, in a table one random non-sequence column is {@code NULL}.</p>
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final int INSERT_BATCH = 5_000;
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+    private static final char[] ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+    private final DataSpec spec;
+    private final SplittableRandom random;
+    private final List<ColumnSpec> columns;
+    private final double[][] cumulative; // Zipf CDF per skewed column
+    private final int[] corruptible; // columns that can hold a corrupt value
+
+    public SyntheticDataGenerator(DataSpec spec) {
+        if (spec.getColumns() == null || spec.getColumns().isEmpty()) {
+            throw new IllegalArgumentException("'load.data.columns' must contain at least one column");
+        }
+        this.spec = spec;
+        this.random = new SplittableRandom(spec.getSeed());
+        this.columns = List.copyOf(spec.getColumns());
+        this.cumulative = new double[columns.size()][];
+        for (int c = 0; c < columns.size(); c++) {
+            ColumnSpec column = columns.get(c);
+            if (column.getCardinality() > 0 && column.getSkew() > 0) {
+                cumulative[c] = zipf(column.getCardinality(), column.getSkew());
+            }
+        }
+        this.corruptible = IntStream.range(0, columns.size())
+                .filter(c -> columns.get(c).getType() != ColumnSpec.ColumnType.SEQUENCE)
+                .toArray();
+    }
+
+    /**
+     * Drops and recreates {@code table} and fills it in batches.
+     */
+    public void generateTable(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + spec.getTable());
+        jdbcTemplate.execute("CREATE TABLE " + spec.getTable() + " (" + columns.stream()
+                .map(column -> column.getName() + " " + sqlType(column))
+                .collect(Collectors.joining(", ")) + ")");
+
+        String sql = "INSERT INTO " + spec.getTable() + " ("
+                + columns.stream().map(ColumnSpec::getName).collect(Collectors.joining(", ")) + ") VALUES ("
+                + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long row = 0; row < spec.getRows(); row++) {
+            Object[] values = row(row);
+            if (isCorrupt()) {
+                values[corruptColumn()] = null;
+            }
+            batch.add(values);
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        log.info("Generated {} rows into table '{}'", spec.getRows(), spec.getTable());
+    }
+
+    /**
+     * Writes the rows to {@code file}, with a header line if requested.
+     */
+    public Path generateCsv() throws IOException {
+        Path file = Path.of(spec.getFile()).toAbsolutePath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        String delimiter = spec.getDelimiter();
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            if (spec.isHeader()) {
+                out.write(columns.stream().map(ColumnSpec::getName).collect(Collectors.joining(delimiter)));
+                out.newLine();
+            }
+            StringBuilder line = new StringBuilder(columns.size() * 16);
+            for (long row = 0; row < spec.getRows(); row++) {
+                Object[] values = row(row);
+                // A corrupt line misses its last field
+                int fields = isCorrupt() ? values.length - 1 : values.length;
+                line.setLength(0);
+                for (int c = 0; c < fields; c++) {
+                    if (c > 0) {
+                        line.append(delimiter);
+                    }
+                    line.append(values[c] instanceof Date date ? date.toLocalDate() : values[c]);
+                }
+                out.write(line.toString());
+                out.newLine();
+            }
+        }
+        log.info("Generated {} rows into file '{}'", spec.getRows(), file);
+        return file;
+    }
+
+    private Object[] row(long row) {
+        Object[] values = new Object[columns.size()];
+        for (int c = 0; c < values.length; c++) {
+            values[c] = value(c, row);
+        }
+        return values;
+    }
+
+    private Object value(int c, long row) {
+        ColumnSpec column = columns.get(c);
+        if (column.getType() == ColumnSpec.ColumnType.SEQUENCE) {
+            return row + 1;
+        }
+        long cardinality = column.getCardinality();
+        if (cardinality <= 0) {
+            return switch (column.getType()) {
+                case LONG -> (long) (column.getMin() + random.nextDouble() * (column.getMax() - column.getMin()));
+                case DOUBLE -> Math.round((column.getMin() + random.nextDouble() * (column.getMax() - column.getMin())) * 100) / 100.0;
+                case STRING -> randomString(column.getLength());
+                case DATE -> Date.valueOf(BASE_DATE.plusDays(random.nextInt(3_650)));
+                case BOOLEAN -> random.nextBoolean();
+                case SEQUENCE -> throw new IllegalStateException();
+            };
+        }
+        long k = cumulative[c] != null ? sample(cumulative[c]) : random.nextLong(cardinality);
+        double fraction = cardinality > 1 ? (double) k / (cardinality - 1) : 0;
+        return switch (column.getType()) {
+            case LONG -> (long) (column.getMin() + fraction * (column.getMax() - column.getMin()));
+            case DOUBLE -> Math.round((column.getMin() + fraction * (column.getMax() - column.getMin())) * 100) / 100.0;
+            case STRING -> fixedLength("v" + k, column.getLength());
+            case DATE -> Date.valueOf(BASE_DATE.plusDays(k));
+            case BOOLEAN -> k % 2 == 0;
+            case SEQUENCE -> throw new IllegalStateException();
+        };
+    }
+
+    private boolean isCorrupt() {
+        return spec.getErrorRate() > 0 && corruptible.length > 0 && random.nextDouble() < spec.getErrorRate();
+    }
+
+    private int corruptColumn() {
+        return corruptible[random.nextInt(corruptible.length)];
+    }
+
+    private String randomString(int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+        return new String(chars);
+    }
+
+    private static String fixedLength(String value, int length) {
+        if (value.length() >= length) {
+            return value.substring(0, length);
+        }
+        char[] padding = new char[length - value.length()];
+        Arrays.fill(padding, 'x');
+        return value + new String(padding);
+    }
+
+    /**
+     * Cumulative distribution of a Zipf law over {@code n} ranks: rank k has weight 1 / (k + 1)^s.
+     */
+    private static double[] zipf(long n, double s) {
+        if (n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("cardinality too large for a skewed column: " + n);
+        }
+        double[] cdf = new double[(int) n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, s);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+        return cdf;
+    }
+
+    private long sample(double[] cdf) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return index >= 0 ? index : Math.min(-index - 1, cdf.length - 1);
+    }
+
+    private static String sqlType(ColumnSpec column) {
+        return switch (column.getType()) {
+            case SEQUENCE, LONG -> "BIGINT";
+            case DOUBLE -> "DOUBLE PRECISION";
+            case STRING -> "VARCHAR(" + column.getLength() + ")";
+            case DATE -> "DATE";
+            case BOOLEAN -> "BOOLEAN";
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.marbl.declarative_batch.spring_declarative_batch.builder.processor;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.processor.LookupProcessorConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.processor.LookupItemProcessor;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.DatasourceUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Factory builder responsible for creating and configuring {@link LookupItemProcessor}
+ * instances based on declarative {@link ComponentConfig} definitions.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LookupProcessorBuilder {
+
+    /**
+     * Builds a {@link LookupItemProcessor} from the provided configuration.
+     *
+     * @param config  the declarative component configuration
+     * @param context the Spring {@link ApplicationContext} to resolve dependencies
+     * @param <T>     the item type
+     * @return a configured {@link LookupItemProcessor} instance
+     */
+    public static <T> LookupItemProcessor<T> build(ComponentConfig config, ApplicationContext context) {
+        log.debug("Building LookupItemProcessor for component '{}'", config.getName());
+
+        try {
+            // Normalize configuration structure (convert indexed maps, etc.)
+            Object normalizedMap = MapUtils.normalizeMapStructure(config.getConfig());
+            log.debug("Normalized configuration map: {}", normalizedMap);
+
+            // Map normalized configuration into DTO
+            LookupProcessorConfig lookupConfig = MapUtils.mapToConfigDto(normalizedMap, LookupProcessorConfig.class);
+            log.debug("Mapped LookupProcessorConfig DTO: {}", lookupConfig);
+
+            if (!StringUtils.hasText(lookupConfig.getSql()) || !StringUtils.hasText(lookupConfig.getKeyProperty())
+                    || lookupConfig.getFields() == null || lookupConfig.getFields().isEmpty()) {
+                throw new IllegalArgumentException("'sql', 'keyProperty' and 'fields' must be provided");
+            }
+
+            // Resolve datasource
+            DataSource dataSource = DatasourceUtils.getDataSource(context, lookupConfig.getDatasource());
+            log.debug("Resolved DataSource '{}' for component '{}'", lookupConfig.getDatasource(), config.getName());
+
+            LookupItemProcessor<T> processor = new LookupItemProcessor<>(
+                    config.getName(),
+                    dataSource,
+                    lookupConfig.getSql(),
+                    lookupConfig.getKeyColumn(),
+                    lookupConfig.getKeyProperty(),
+                    lookupConfig.getFields(),
+                    lookupConfig.getOnMissing(),
+                    lookupConfig.isOffHeap()
+            );
+
+            log.info("LookupItemProcessor '{}' successfully created using datasource '{}' (key '{}', fields {})",
+                    config.getName(), lookupConfig.getDatasource(), lookupConfig.getKeyProperty(),
+                    lookupConfig.getFields().values());
+            return processor;
+
+        } catch (Exception e) {
+            String errorMsg = String.format(
+                    "Failed to initialize LookupItemProcessor for component '%s': %s",
+                    config.getName(), e.getMessage()
+            );
+            log.error(errorMsg, e);
+            throw new IllegalArgumentException(errorMsg, e);
+        }
+    }
+}
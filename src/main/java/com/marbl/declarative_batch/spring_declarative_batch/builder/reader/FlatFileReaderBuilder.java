@@ -2,19 +2,26 @@ package com.marbl.declarative_batch.spring_declarative_batch.builder.reader;
 
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.FlatFileReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.mapping.DirectFieldSetMapper;
+import com.marbl.declarative_batch.spring_declarative_batch.support.partition.FileRangeResource;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.ClassNameResolver;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.ResourceUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
 import org.springframework.batch.item.file.mapping.DefaultLineMapper;
 import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.Resource;
 
+import static com.marbl.declarative_batch.spring_declarative_batch.support.partition.FileRangePartitioner.END_OFFSET_KEY;
+import static com.marbl.declarative_batch.spring_declarative_batch.support.partition.FileRangePartitioner.START_OFFSET_KEY;
+
 /**
  * Factory builder responsible for creating and configuring {@link FlatFileItemReader}
  * instances from declarative {@link ComponentConfig} definitions.
@@ -32,6 +39,20 @@ public class FlatFileReaderBuilder {
      * @return Configured {@link FlatFileItemReader} instance
      */
     public static <I> FlatFileItemReader<I> build(ComponentConfig config, ApplicationContext context) {
+        return build(config, context, null);
+    }
+
+    /**
+     * Builds a {@link FlatFileItemReader} restricted to the byte range of a partition.
+     *
+     * @param config    The declarative component configuration
+     * @param context   The Spring {@link ApplicationContext} to resolve dependencies
+     * @param partition The worker step ExecutionContext holding the partition offsets, or {@code null} to read everything
+     * @param <I>       The target item type
+     * @return Configured {@link FlatFileItemReader} instance
+     */
+    public static <I> FlatFileItemReader<I> build(ComponentConfig config, ApplicationContext context,
+                                                  ExecutionContext partition) {
         log.debug("Building FlatFileItemReader for component '{}'", config.getName());
 
         // Normalize nested map structures (convert indexed maps into lists, etc.)
@@ -47,8 +68,15 @@ public class FlatFileReaderBuilder {
             reader.setName(config.getName());
 
             Resource resource = ResourceUtils.resolveResource(flatConfig.getResource());
+            if (partition != null) {
+                // Header lines were already excluded by the partitioner
+                resource = new FileRangeResource(resource,
+                        partition.getLong(START_OFFSET_KEY), partition.getLong(END_OFFSET_KEY));
+                reader.setLinesToSkip(0);
+            } else {
+                reader.setLinesToSkip(flatConfig.getLineToSkip());
+            }
             reader.setResource(resource);
-            reader.setLinesToSkip(flatConfig.getLineToSkip());
 
             // Configure LineMapper
             DefaultLineMapper<I> lineMapper = new DefaultLineMapper<>();
@@ -64,10 +92,9 @@ public class FlatFileReaderBuilder {
             String dtoClassName = classNameResolver.resolveClass(flatConfig.getFieldMapperClass(), "dto");
             log.debug("Resolved DTO class: {}", dtoClassName);
 
-            BeanWrapperFieldSetMapper<I> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
             @SuppressWarnings("unchecked")
             Class<I> targetClass = (Class<I>) Class.forName(dtoClassName);
-            fieldSetMapper.setTargetType(targetClass);
+            FieldSetMapper<I> fieldSetMapper = createFieldSetMapper(flatConfig, targetClass, flatConfig.getFieldNames());
 
             lineMapper.setLineTokenizer(tokenizer);
             lineMapper.setFieldSetMapper(fieldSetMapper);
@@ -76,7 +103,7 @@ public class FlatFileReaderBuilder {
             reader.afterPropertiesSet();
 
             log.info("FlatFileItemReader '{}' successfully created for resource '{}'",
-                    config.getName(), flatConfig.getResource());
+                    config.getName(), resource.getDescription());
             return reader;
 
         } catch (ClassNotFoundException e) {
@@ -96,4 +123,18 @@ public class FlatFileReaderBuilder {
             throw new IllegalArgumentException(errorMsg, e);
         }
     }
+
+    /**
+     * Creates the mapper selected by {@code mappingMode}: a {@link BeanWrapperFieldSetMapper}, or a
+     * {@link DirectFieldSetMapper} specialised once for the target class and column names.
+     */
+    static <I> FieldSetMapper<I> createFieldSetMapper(FlatFileReaderConfig flatConfig, Class<I> targetClass, String[] names) {
+        if (flatConfig.getMappingMode() == FlatFileReaderConfig.MappingMode.DIRECT) {
+            log.debug("Using DirectFieldSetMapper for {}", targetClass.getName());
+            return DirectFieldSetMapper.of(targetClass, names);
+        }
+        BeanWrapperFieldSetMapper<I> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
+        fieldSetMapper.setTargetType(targetClass);
+        return fieldSetMapper;
+    }
 }
\ No newline at end of file
@@ -25,6 +25,8 @@ import javax.sql.DataSource;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class JdbcCursorReaderBuilder {
 
+    private static final int STREAMING_FETCH_SIZE = 1000;
+
     /**
      * Builds a fully configured {@link JdbcCursorItemReader} from the provided configuration.
      *
@@ -52,10 +54,10 @@ public class JdbcCursorReaderBuilder {
             // Get ClassNameResolver bean
             ClassNameResolver classNameResolver = context.getBean(ClassNameResolver.class);
 
-            // Resolve RowMapper class using ClassNameResolver
-            String rowMapperClassName = classNameResolver.resolveClass(jdbcConfig.getRowMapperClass(), "mapper");
-            log.debug("Resolved RowMapper class: {}", rowMapperClassName);
-            RowMapper<I> rowMapper = ReflectionUtils.instantiateClass(rowMapperClassName, RowMapper.class);
+            // Resolve RowMapper, custom class or declarative column mapping
+            RowMapper<I> rowMapper = JdbcPagingReaderBuilder.createRowMapper(
+                    jdbcConfig.getRowMapperClass(), jdbcConfig.getRowMapper(), classNameResolver
+            );
 
             // Resolve PreparedStatementSetter class using ClassNameResolver
             String preparedStatementClassName = classNameResolver.resolveClass(
@@ -67,16 +69,32 @@ public class JdbcCursorReaderBuilder {
             );
 
             // Build the JdbcCursorItemReader
-            JdbcCursorItemReader<I> reader = new JdbcCursorItemReaderBuilder<I>()
+            JdbcCursorItemReaderBuilder<I> builder = new JdbcCursorItemReaderBuilder<I>()
                     .name(config.getName())
                     .dataSource(dataSource)
                     .sql(jdbcConfig.getSql())
                     .rowMapper(rowMapper)
-                    .preparedStatementSetter(psSetter)
-                    .build();
+                    .preparedStatementSetter(psSetter);
+
+            // Apply statement tuning and, if requested, the server-side cursor settings of the dialect
+            if (jdbcConfig.getMaxRows() != null) {
+                builder.maxRows(jdbcConfig.getMaxRows());
+            }
+            if (jdbcConfig.getQueryTimeout() != null) {
+                builder.queryTimeout(jdbcConfig.getQueryTimeout());
+            }
+            Integer fetchSize = jdbcConfig.isStreaming()
+                    ? applyStreaming(builder, DatasourceUtils.getDataSourceType(context, jdbcConfig.getDatasource()), jdbcConfig.getFetchSize())
+                    : jdbcConfig.getFetchSize();
+            if (fetchSize != null) {
+                builder.fetchSize(fetchSize);
+            }
 
-            log.info("JdbcCursorItemReader '{}' successfully created using datasource '{}'",
-                    config.getName(), jdbcConfig.getDatasource());
+            JdbcCursorItemReader<I> reader = builder.build();
+
+            log.info("JdbcCursorItemReader '{}' successfully created using datasource '{}' (streaming: {}, fetch size: {})",
+                    config.getName(), jdbcConfig.getDatasource(), jdbcConfig.isStreaming(),
+                    fetchSize != null ? fetchSize : "driver default");
 
             return reader;
 
@@ -96,4 +114,29 @@ public class JdbcCursorReaderBuilder {
             throw new IllegalArgumentException(errorMsg, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Configures the cursor so that the driver streams rows from the server instead of loading the whole
+     * result set in memory, and returns the fetch size to use.
+     *
+     * <ul>
+     *   <li>PostgreSQL only uses a server-side cursor with auto-commit disabled and a positive fetch size;
+     *       the reader owns a dedicated connection, so disabling auto-commit does not affect chunk transactions.</li>
+     *   <li>MySQL and MariaDB stream row by row with a fetch size of {@link Integer#MIN_VALUE}, unless a
+     *       fetch size is configured (e.g. together with {@code useCursorFetch=true}).</li>
+     *   <li>Oracle, H2 and the other databases only need a fetch size larger than the driver default.</li>
+     * </ul>
+     */
+    private static Integer applyStreaming(JdbcCursorItemReaderBuilder<?> builder, String type, Integer fetchSize) {
+        int rowsPerFetch = fetchSize != null ? fetchSize : STREAMING_FETCH_SIZE;
+
+        return switch (type == null ? "" : type.toLowerCase()) {
+            case "postgres", "postgresql" -> {
+                builder.connectionAutoCommit(false);
+                yield rowsPerFetch;
+            }
+            case "mysql", "mariadb" -> fetchSize != null ? fetchSize : Integer.MIN_VALUE;
+            default -> rowsPerFetch;
+        };
+    }
+}
@@ -2,20 +2,32 @@ package com.marbl.declarative_batch.spring_declarative_batch.builder.reader;
 
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.JdbcPagingReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.RowMapperConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.model.PagingSqlModel;
+import com.marbl.declarative_batch.spring_declarative_batch.support.mapping.ColumnMappingRowMapper;
+import com.marbl.declarative_batch.spring_declarative_batch.support.reader.KeysetPagingQueryProvider;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.ClassNameResolver;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.DatasourceUtils;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.SqlClauseUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.context.ApplicationContext;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.StringUtils;
 
 import javax.sql.DataSource;
+import java.util.HashMap;
 import java.util.Map;
 
+import static com.marbl.declarative_batch.spring_declarative_batch.support.partition.ColumnRangePartitioner.COLUMN_KEY;
+import static com.marbl.declarative_batch.spring_declarative_batch.support.partition.ColumnRangePartitioner.LAST_RANGE_KEY;
+import static com.marbl.declarative_batch.spring_declarative_batch.support.partition.ColumnRangePartitioner.MAX_VALUE_KEY;
+import static com.marbl.declarative_batch.spring_declarative_batch.support.partition.ColumnRangePartitioner.MIN_VALUE_KEY;
 import static com.marbl.declarative_batch.spring_declarative_batch.utils.ReflectionUtils.instantiateClass;
 
 /**
@@ -36,6 +48,21 @@ public class JdbcPagingReaderBuilder {
      * @return a configured {@link JdbcPagingItemReader} instance
      */
     public static <I> JdbcPagingItemReader<I> build(ComponentConfig config, ApplicationContext context, int chunk) {
+        return build(config, context, chunk, null);
+    }
+
+    /**
+     * Builds a {@link JdbcPagingItemReader} restricted to the column range of a partition.
+     *
+     * @param config the component configuration containing reader properties
+     * @param context the Spring {@link ApplicationContext} used to resolve dependencies
+     * @param chunk the chunk size (page size) for pagination
+     * @param partition the worker step ExecutionContext holding the partition bounds, or {@code null} to read everything
+     * @param <I> the item type
+     * @return a configured {@link JdbcPagingItemReader} instance
+     */
+    public static <I> JdbcPagingItemReader<I> build(ComponentConfig config, ApplicationContext context, int chunk,
+                                                    ExecutionContext partition) {
         log.debug("Building JdbcPagingItemReader for component '{}'", config.getName());
 
         try {
@@ -47,16 +74,18 @@ public class JdbcPagingReaderBuilder {
             JdbcPagingReaderConfig jdbcConfig = MapUtils.mapToConfigDto(normalizedMap, JdbcPagingReaderConfig.class);
             log.debug("Mapped JdbcPagingReaderConfig DTO: {}", jdbcConfig);
 
+            // Restrict the query to the partition range, if any
+            if (partition != null) {
+                applyPartitionBounds(jdbcConfig, partition);
+            }
+
             // Resolve datasource
             DataSource dataSource = DatasourceUtils.getDataSource(context, jdbcConfig.getDatasource());
             log.debug("Resolved DataSource '{}' for component '{}'", jdbcConfig.getDatasource(), config.getName());
 
             // Instantiate RowMapper dynamically
-            // Resolve mapper class using ClassNameResolver
             ClassNameResolver classNameResolver = context.getBean(ClassNameResolver.class);
-            String mapperClassName = classNameResolver.resolveClass(jdbcConfig.getRowMapperClass(), "mapper");
-            log.debug("Resolved mapper class: {}", mapperClassName);
-            RowMapper<I> rowMapper = instantiateClass(mapperClassName, RowMapper.class);
+            RowMapper<I> rowMapper = createRowMapper(jdbcConfig.getRowMapperClass(), jdbcConfig.getRowMapper(), classNameResolver);
 
             // Configure JdbcPagingItemReader
             JdbcPagingItemReader<I> reader = new JdbcPagingItemReader<>();
@@ -66,10 +95,16 @@ public class JdbcPagingReaderBuilder {
             reader.setPageSize(chunk);
 
             // Configure query provider and parameters
-            PagingQueryProvider queryProvider = jdbcConfig.getProviderType().create(jdbcConfig);
+            PagingQueryProvider queryProvider = jdbcConfig.getProviderType().createKeyset(jdbcConfig);
             reader.setQueryProvider(queryProvider);
 
             Map<String, Object> parameters = jdbcConfig.getParameters();
+            if (jdbcConfig.getStartAfter() != null && !jdbcConfig.getStartAfter().isEmpty()) {
+                parameters = parameters != null ? new HashMap<>(parameters) : new HashMap<>();
+                for (Map.Entry<String, Object> key : jdbcConfig.getStartAfter().entrySet()) {
+                    parameters.put(KeysetPagingQueryProvider.startAfterParameter(key.getKey()), key.getValue());
+                }
+            }
             reader.setParameterValues(parameters);
 
             reader.afterPropertiesSet();
@@ -96,4 +131,53 @@ public class JdbcPagingReaderBuilder {
             throw new IllegalArgumentException(errorMsg, e);
         }
     }
+
+    /**
+     * Creates the row mapper of a JDBC reader: either the custom {@code rowMapperClass} or a
+     * {@link ColumnMappingRowMapper} built from the declarative {@code rowMapper} section.
+     *
+     * @throws IllegalArgumentException if none or both of them are configured
+     */
+    static <I> RowMapper<I> createRowMapper(String rowMapperClass, RowMapperConfig rowMapperConfig,
+                                            ClassNameResolver classNameResolver) throws ClassNotFoundException {
+        if (StringUtils.hasText(rowMapperClass) == (rowMapperConfig != null)) {
+            throw new IllegalArgumentException("exactly one of 'rowMapperClass' and 'rowMapper' must be provided");
+        }
+
+        if (rowMapperConfig == null) {
+            // Resolve mapper class using ClassNameResolver
+            String mapperClassName = classNameResolver.resolveClass(rowMapperClass, "mapper");
+            log.debug("Resolved mapper class: {}", mapperClassName);
+            return instantiateClass(mapperClassName, RowMapper.class);
+        }
+
+        // Resolve DTO class using ClassNameResolver
+        String dtoClassName = classNameResolver.resolveClass(rowMapperConfig.getDto(), "dto");
+        log.debug("Resolved DTO class for column mapping: {}", dtoClassName);
+
+        @SuppressWarnings("unchecked")
+        Class<I> targetClass = (Class<I>) Class.forName(dtoClassName);
+        return ColumnMappingRowMapper.of(targetClass, rowMapperConfig.getColumns());
+    }
+
+    private static void applyPartitionBounds(JdbcPagingReaderConfig jdbcConfig, ExecutionContext partition) {
+        String column = partition.getString(COLUMN_KEY);
+        String upperOperator = partition.containsKey(LAST_RANGE_KEY) && (Boolean) partition.get(LAST_RANGE_KEY) ? " <= " : " < ";
+        String rangeClause = column + " >= :partitionMin AND " + column + upperOperator + ":partitionMax";
+
+        PagingSqlModel clause = jdbcConfig.getClause();
+        clause.setWhereClause(StringUtils.hasText(clause.getWhereClause())
+                ? "(" + SqlClauseUtils.removeKeyword("WHERE", clause.getWhereClause()) + ") AND " + rangeClause
+                : rangeClause);
+
+        Map<String, Object> parameters = jdbcConfig.getParameters() != null
+                ? new HashMap<>(jdbcConfig.getParameters())
+                : new HashMap<>();
+        parameters.put("partitionMin", partition.get(MIN_VALUE_KEY));
+        parameters.put("partitionMax", partition.get(MAX_VALUE_KEY));
+        jdbcConfig.setParameters(parameters);
+
+        log.debug("Applied partition bounds: where='{}', min={}, max={}",
+                clause.getWhereClause(), partition.get(MIN_VALUE_KEY), partition.get(MAX_VALUE_KEY));
+    }
 }
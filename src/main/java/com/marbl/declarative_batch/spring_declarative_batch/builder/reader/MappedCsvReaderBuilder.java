@@ -0,0 +1,125 @@
+package com.marbl.declarative_batch.spring_declarative_batch.builder.reader;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.FlatFileReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.reader.MappedCsvItemReader;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.ClassNameResolver;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.PropertyNameUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.ResourceUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Factory builder responsible for creating and configuring {@link MappedCsvItemReader}
+ * instances from the same declarative {@link FlatFileReaderConfig} used by flat file readers.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MappedCsvReaderBuilder {
+
+    private static final char QUOTE = '"';
+
+    /**
+     * Builds a fully configured {@link MappedCsvItemReader} instance based on the provided {@link ComponentConfig}.
+     *
+     * <p>Only the columns whose name matches a writable property of the mapped class are decoded;
+     * the others are skipped while scanning.</p>
+     *
+     * @param config  The declarative component configuration
+     * @param context The Spring {@link ApplicationContext} to resolve dependencies
+     * @param <I>     The target item type
+     * @return Configured {@link MappedCsvItemReader} instance
+     */
+    public static <I> MappedCsvItemReader<I> build(ComponentConfig config, ApplicationContext context) {
+        log.debug("Building MappedCsvItemReader for component '{}'", config.getName());
+
+        // Normalize nested map structures (convert indexed maps into lists, etc.)
+        Object normalizedMap = MapUtils.normalizeMapStructure(config.getConfig());
+        log.debug("Normalized configuration map: {}", normalizedMap);
+
+        // Map normalized configuration into DTO
+        FlatFileReaderConfig flatConfig = MapUtils.mapToConfigDto(normalizedMap, FlatFileReaderConfig.class);
+        log.debug("Mapped FlatFileReaderConfig DTO: {}", flatConfig);
+
+        try {
+            Resource resource = ResourceUtils.resolveResource(flatConfig.getResource());
+            if (!resource.isFile()) {
+                throw new IllegalArgumentException("resource '" + flatConfig.getResource() + "' is not a file and cannot be memory-mapped");
+            }
+            Path path = resource.getFile().toPath();
+
+            // Get ClassNameResolver bean
+            ClassNameResolver classNameResolver = context.getBean(ClassNameResolver.class);
+
+            // Resolve DTO class using ClassNameResolver
+            String dtoClassName = classNameResolver.resolveClass(flatConfig.getFieldMapperClass(), "dto");
+            log.debug("Resolved DTO class: {}", dtoClassName);
+
+            @SuppressWarnings("unchecked")
+            Class<I> targetClass = (Class<I>) Class.forName(dtoClassName);
+            String[] names = mappedColumns(flatConfig.getFieldNames(), targetClass);
+            String[] decodedNames = Arrays.stream(names).filter(name -> name != null).toArray(String[]::new);
+            FieldSetMapper<I> fieldSetMapper = FlatFileReaderBuilder.createFieldSetMapper(flatConfig, targetClass, decodedNames);
+
+            MappedCsvItemReader<I> reader = new MappedCsvItemReader<>(
+                    path,
+                    flatConfig.getDelimiter(),
+                    QUOTE,
+                    flatConfig.getLineToSkip(),
+                    names,
+                    fieldSetMapper,
+                    MappedCsvItemReader.DEFAULT_WINDOW_SIZE
+            );
+            reader.setName(config.getName());
+
+            log.info("MappedCsvItemReader '{}' successfully created for resource '{}' ({} of {} columns mapped)",
+                    config.getName(), flatConfig.getResource(),
+                    decodedNames.length, names.length);
+            return reader;
+
+        } catch (ClassNotFoundException e) {
+            String errorMsg = String.format(
+                    "Invalid MappedCsvReader configuration: mapped class '%s' not found for component '%s'",
+                    flatConfig.getFieldMapperClass(), config.getName()
+            );
+            log.error(errorMsg, e);
+            throw new IllegalArgumentException(errorMsg, e);
+
+        } catch (Exception e) {
+            String errorMsg = String.format(
+                    "Failed to initialize MappedCsvItemReader for component '%s': %s",
+                    config.getName(), e.getMessage()
+            );
+            log.error(errorMsg, e);
+            throw new IllegalArgumentException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Returns the field names with {@code null} in place of the columns that have no writable property
+     * (or record component) on the target class, matched as leniently as {@link BeanWrapperFieldSetMapper}.
+     */
+    private static String[] mappedColumns(String[] fieldNames, Class<?> targetClass) {
+        Set<String> properties = PropertyNameUtils.writableProperties(targetClass);
+
+        String[] names = new String[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (properties.contains(PropertyNameUtils.normalize(fieldNames[i]))) {
+                names[i] = fieldNames[i];
+            } else {
+                log.debug("Column '{}' has no property on {}: it will not be decoded", fieldNames[i], targetClass.getSimpleName());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,86 @@
+package com.marbl.declarative_batch.spring_declarative_batch.builder.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.writer.BulkLoadWriterConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.BulkLoadItemWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.DatasourceUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Factory builder responsible for creating and configuring {@link BulkLoadItemWriter}
+ * instances based on declarative {@link ComponentConfig} definitions.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkLoadWriterBuilder {
+
+    /**
+     * Builds a {@link BulkLoadItemWriter}, selecting the loader from the {@code type} of the datasource.
+     *
+     * @param config  the component configuration containing writer properties
+     * @param context the Spring {@link ApplicationContext} used to resolve dependencies
+     * @param <O>     the output item type
+     * @return a configured {@link BulkLoadItemWriter} instance
+     */
+    public static <O> BulkLoadItemWriter<O> build(ComponentConfig config, ApplicationContext context) {
+        log.debug("Building BulkLoadItemWriter for component '{}'", config.getName());
+
+        try {
+            // Normalize configuration structure (convert numeric-keyed maps to lists)
+            Object normalizedMap = MapUtils.normalizeMapStructure(config.getConfig());
+            log.debug("Normalized configuration map: {}", normalizedMap);
+
+            // Map normalized configuration into DTO
+            BulkLoadWriterConfig bulkConfig = MapUtils.mapToConfigDto(normalizedMap, BulkLoadWriterConfig.class);
+            log.debug("Mapped BulkLoadWriterConfig DTO: {}", bulkConfig);
+
+            List<String> columns = bulkConfig.getColumns();
+            if (!StringUtils.hasText(bulkConfig.getTable()) || columns == null || columns.isEmpty()) {
+                throw new IllegalArgumentException("'table' and 'columns' must be provided");
+            }
+            List<String> fieldNames = bulkConfig.getFieldNames() != null ? bulkConfig.getFieldNames() : columns;
+            if (fieldNames.size() != columns.size()) {
+                throw new IllegalArgumentException(String.format(
+                        "'fieldNames' must have one entry per column (%d columns, %d fieldNames)",
+                        columns.size(), fieldNames.size()));
+            }
+
+            // Resolve datasource and the loader matching its type
+            DataSource dataSource = DatasourceUtils.getDataSource(context, bulkConfig.getDatasource());
+            BulkLoadItemWriter.Loader loader = bulkConfig.getMethod() == BulkLoadWriterConfig.LoadMethod.JDBC
+                    ? BulkLoadItemWriter.Loader.JDBC_BATCH
+                    : BulkLoadItemWriter.Loader.forType(DatasourceUtils.getDataSourceType(context, bulkConfig.getDatasource()));
+            log.debug("Resolved DataSource '{}' for component '{}' (loader {})",
+                    bulkConfig.getDatasource(), config.getName(), loader);
+
+            BeanWrapperFieldExtractor<O> extractor = new BeanWrapperFieldExtractor<>();
+            extractor.setNames(fieldNames.toArray(String[]::new));
+            extractor.afterPropertiesSet();
+
+            BulkLoadItemWriter<O> writer = new BulkLoadItemWriter<>(
+                    dataSource, bulkConfig.getTable(), columns, extractor, loader);
+
+            log.info("BulkLoadItemWriter '{}' successfully created using datasource '{}' (table '{}', loader {})",
+                    config.getName(), bulkConfig.getDatasource(), bulkConfig.getTable(), writer.getLoader());
+
+            return writer;
+
+        } catch (Exception e) {
+            String errorMsg = String.format(
+                    "Failed to initialize BulkLoadItemWriter for component '%s': %s",
+                    config.getName(), e.getMessage()
+            );
+            log.error(errorMsg, e);
+            throw new IllegalArgumentException(errorMsg, e);
+        }
+    }
+}
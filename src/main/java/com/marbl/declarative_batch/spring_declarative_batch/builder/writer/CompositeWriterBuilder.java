@@ -0,0 +1,150 @@
+package com.marbl.declarative_batch.spring_declarative_batch.builder.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.writer.CompositeWriterConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.writer.RoutingWriterConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.component.WriterFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.executor.TaskExecutorFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.ParallelCompositeItemWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Factory builder responsible for creating and configuring {@link ParallelCompositeItemWriter}
+ * instances based on declarative {@link ComponentConfig} definitions.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CompositeWriterBuilder {
+
+    private static final TaskExecutorFactory taskExecutorFactory = new TaskExecutorFactory();
+
+    // Writers bound to the chunk transaction, they must not run on the executor, even nested in a composite or routing writer
+    private static final Set<String> TRANSACTIONAL_TYPES = Set.of(
+            "JdbcBatchItemWriter", "BulkLoadItemWriter", "UpsertItemWriter");
+
+    /**
+     * Builds a {@link ParallelCompositeItemWriter}, creating each delegate through the writer factory.
+     *
+     * @param config        the component configuration containing the delegate writers
+     * @param writerFactory the factory building the delegates
+     * @param <O>           the output item type
+     * @return a configured {@link ParallelCompositeItemWriter} instance
+     */
+    public static <O> ParallelCompositeItemWriter<O> build(ComponentConfig config, WriterFactory writerFactory) {
+        log.debug("Building ParallelCompositeItemWriter for component '{}'", config.getName());
+
+        try {
+            // Normalize configuration structure (convert numeric-keyed maps to lists)
+            Object normalizedMap = MapUtils.normalizeMapStructure(config.getConfig());
+            log.debug("Normalized configuration map: {}", normalizedMap);
+
+            // Map normalized configuration into DTO
+            CompositeWriterConfig compositeConfig = MapUtils.mapToConfigDto(normalizedMap, CompositeWriterConfig.class);
+            log.debug("Mapped CompositeWriterConfig DTO: {}", compositeConfig);
+
+            if (compositeConfig.getDelegates() == null || compositeConfig.getDelegates().isEmpty()) {
+                throw new IllegalArgumentException("'delegates' must be provided");
+            }
+            Set<String> names = new HashSet<>();
+            for (ComponentConfig delegate : compositeConfig.getDelegates()) {
+                if (!names.add(delegate.getName())) {
+                    throw new IllegalArgumentException("Duplicate delegate name: " + delegate.getName());
+                }
+            }
+            Set<String> unknown = new HashSet<>(compositeConfig.getConcurrent());
+            unknown.addAll(compositeConfig.getOptional());
+            unknown.removeAll(names);
+            if (!unknown.isEmpty()) {
+                throw new IllegalArgumentException("'concurrent' and 'optional' reference unknown delegates " + unknown);
+            }
+            for (ComponentConfig delegate : compositeConfig.getDelegates()) {
+                ComponentConfig transactional = compositeConfig.getConcurrent().contains(delegate.getName())
+                        ? findTransactional(delegate) : null;
+                if (transactional == delegate) {
+                    throw new IllegalArgumentException(String.format(
+                            "Delegate '%s' of type %s writes in the chunk transaction and cannot be 'concurrent'",
+                            delegate.getName(), delegate.getType()));
+                }
+                if (transactional != null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Delegate '%s' wraps writer '%s' of type %s, which writes in the chunk transaction, and cannot be 'concurrent'",
+                            delegate.getName(), transactional.getName(), transactional.getType()));
+                }
+            }
+
+            // Build every delegate as a standalone writer
+            List<ParallelCompositeItemWriter.Delegate<O>> delegates = new ArrayList<>();
+            for (ComponentConfig delegate : compositeConfig.getDelegates()) {
+                ItemWriter<O> writer = writerFactory.createWriter(delegate);
+                delegates.add(new ParallelCompositeItemWriter.Delegate<>(delegate.getName(), writer,
+                        compositeConfig.getConcurrent().contains(delegate.getName()),
+                        compositeConfig.getOptional().contains(delegate.getName())));
+            }
+
+            long concurrent = delegates.stream().filter(ParallelCompositeItemWriter.Delegate::concurrent).count();
+            int threads = compositeConfig.getThreads() != null ? compositeConfig.getThreads() : (int) Math.max(1, concurrent);
+            if (threads < 1) {
+                throw new IllegalArgumentException("'threads' must be greater than zero");
+            }
+            TaskExecutor executor = concurrent == 0
+                    ? new SyncTaskExecutor()
+                    : taskExecutorFactory.create(config.getName(), compositeConfig.getExecutorType(), threads);
+
+            ParallelCompositeItemWriter<O> writer = new ParallelCompositeItemWriter<>(delegates, executor);
+
+            log.info("ParallelCompositeItemWriter '{}' successfully created with delegates {} ({} concurrent on {} threads: {}, optional: {})",
+                    config.getName(), names, concurrent, threads,
+                    compositeConfig.getConcurrent(), compositeConfig.getOptional());
+
+            return writer;
+
+        } catch (Exception e) {
+            String errorMsg = String.format(
+                    "Failed to initialize ParallelCompositeItemWriter for component '%s': %s",
+                    config.getName(), e.getMessage()
+            );
+            log.error(errorMsg, e);
+            throw new IllegalArgumentException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Finds a writer bound to the chunk transaction among the writer and the delegates or routes it wraps.
+     *
+     * @param writer the writer configuration
+     * @return the first transactional writer found, or {@code null} if there is none
+     */
+    private static ComponentConfig findTransactional(ComponentConfig writer) {
+        if (TRANSACTIONAL_TYPES.contains(writer.getType())) {
+            return writer;
+        }
+        List<ComponentConfig> nested = null;
+        if ("ParallelCompositeItemWriter".equals(writer.getType())) {
+            CompositeWriterConfig nestedConfig = MapUtils.mapToConfigDto(writer.getConfig(), CompositeWriterConfig.class);
+            nested = nestedConfig != null ? nestedConfig.getDelegates() : null;
+        } else if ("RoutingItemWriter".equals(writer.getType())) {
+            RoutingWriterConfig nestedConfig = MapUtils.mapToConfigDto(writer.getConfig(), RoutingWriterConfig.class);
+            nested = nestedConfig != null ? nestedConfig.getRoutes() : null;
+        }
+        if (nested != null) {
+            for (ComponentConfig child : nested) {
+                ComponentConfig transactional = findTransactional(child);
+                if (transactional != null) {
+                    return transactional;
+                }
+            }
+        }
+        return null;
+    }
+}
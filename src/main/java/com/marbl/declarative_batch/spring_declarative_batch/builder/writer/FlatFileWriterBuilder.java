@@ -2,6 +2,8 @@ package com.marbl.declarative_batch.spring_declarative_batch.builder.writer;
 
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.writer.FlatFileWriterConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.mapping.DirectLineAggregator;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.DirectFlatFileItemWriter;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -22,6 +24,8 @@ import org.springframework.core.io.FileSystemResource;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class FlatFileWriterBuilder {
 
+    private static final int DIRECT_BUFFER_CAPACITY = 64 * 1024;
+
     /**
      * Builds and configures a {@link FlatFileItemWriter} instance.
      *
@@ -42,7 +46,12 @@ public class FlatFileWriterBuilder {
             log.debug("Mapped configuration to FlatFileWriterConfig DTO: {}", flatConfig);
 
             // Create writer instance
-            FlatFileItemWriter<O> writer = new FlatFileItemWriter<>();
+            boolean direct = flatConfig.getAggregationMode() == FlatFileWriterConfig.AggregationMode.DIRECT;
+            FlatFileItemWriter<O> writer = direct
+                    ? new DirectFlatFileItemWriter<>(
+                            new DirectLineAggregator<>(flatConfig.getFieldNames(), flatConfig.getDelimiter()),
+                            DIRECT_BUFFER_CAPACITY)
+                    : new FlatFileItemWriter<>();
             writer.setName(config.getName());
             writer.setResource(new FileSystemResource(flatConfig.getResource()));
             writer.setAppendAllowed(true);
@@ -59,19 +68,21 @@ public class FlatFileWriterBuilder {
                 log.debug("Configured file footer: {}", flatConfig.getFileFooter());
             }
 
-            // Line aggregator
-            DelimitedLineAggregator<O> lineAggregator = new DelimitedLineAggregator<>();
-            lineAggregator.setDelimiter(flatConfig.getDelimiter());
+            // Line aggregator (the direct writer brings its own)
+            if (!direct) {
+                DelimitedLineAggregator<O> lineAggregator = new DelimitedLineAggregator<>();
+                lineAggregator.setDelimiter(flatConfig.getDelimiter());
 
-            // Field extractor
-            BeanWrapperFieldExtractor<O> fieldExtractor = new BeanWrapperFieldExtractor<>();
-            fieldExtractor.setNames(flatConfig.getFieldNames());
-            lineAggregator.setFieldExtractor(fieldExtractor);
+                // Field extractor
+                BeanWrapperFieldExtractor<O> fieldExtractor = new BeanWrapperFieldExtractor<>();
+                fieldExtractor.setNames(flatConfig.getFieldNames());
+                lineAggregator.setFieldExtractor(fieldExtractor);
 
-            writer.setLineAggregator(lineAggregator);
+                writer.setLineAggregator(lineAggregator);
+            }
             writer.afterPropertiesSet();
 
-            log.info("Successfully built FlatFileItemWriter for component: {}", config.getName());
+            log.info("Successfully built {} for component: {}", writer.getClass().getSimpleName(), config.getName());
             return writer;
 
         } catch (Exception e) {
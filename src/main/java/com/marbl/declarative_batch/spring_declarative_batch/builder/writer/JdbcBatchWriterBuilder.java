@@ -2,6 +2,7 @@ package com.marbl.declarative_batch.spring_declarative_batch.builder.writer;
 
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.writer.JdbcBatchWriterConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.TunedJdbcBatchItemWriter;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.ClassNameResolver;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.DatasourceUtils;
 import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
@@ -63,15 +64,28 @@ public class JdbcBatchWriterBuilder {
                     instantiateClass(preparedStatementClassName, ItemPreparedStatementSetter.class);
             log.debug("Instantiated ItemPreparedStatementSetter of type '{}'", psSetter.getClass().getName());
 
-            // Configure JdbcBatchItemWriter
-            JdbcBatchItemWriter<O> writer = new JdbcBatchItemWriter<>();
+            if (!jdbcConfig.isValidBatchTuning()) {
+                throw new IllegalArgumentException("'batchSize' and 'rowsPerStatement' must be positive");
+            }
+
+            // Configure JdbcBatchItemWriter, with sub-batches and multi-row statements when tuned
+            JdbcBatchItemWriter<O> writer = jdbcConfig.isTuned()
+                    ? new TunedJdbcBatchItemWriter<>(
+                    jdbcConfig.getBatchSize() != null ? jdbcConfig.getBatchSize() : 0,
+                    jdbcConfig.getRowsPerStatement() != null ? jdbcConfig.getRowsPerStatement() : 1)
+                    : new JdbcBatchItemWriter<>();
             writer.setDataSource(dataSource);
             writer.setSql(jdbcConfig.getSql());
             writer.setItemPreparedStatementSetter(psSetter);
+            writer.setAssertUpdates(jdbcConfig.isAssertUpdates());
             writer.afterPropertiesSet();
 
-            log.info("JdbcBatchItemWriter '{}' successfully created using datasource '{}' and SQL '{}'",
-                    config.getName(), jdbcConfig.getDatasource(), jdbcConfig.getSql());
+            log.info("JdbcBatchItemWriter '{}' successfully created using datasource '{}' and SQL '{}' "
+                            + "(batch size: {}, rows per statement: {}, assert updates: {})",
+                    config.getName(), jdbcConfig.getDatasource(), jdbcConfig.getSql(),
+                    jdbcConfig.getBatchSize() != null ? jdbcConfig.getBatchSize() : "chunk",
+                    jdbcConfig.getRowsPerStatement() != null ? jdbcConfig.getRowsPerStatement() : 1,
+                    jdbcConfig.isAssertUpdates());
 
             return writer;
 
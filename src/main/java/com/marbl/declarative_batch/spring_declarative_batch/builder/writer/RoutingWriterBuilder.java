@@ -0,0 +1,131 @@
+package com.marbl.declarative_batch.spring_declarative_batch.builder.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.annotation.BulkBatchClassifier;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.writer.RoutingWriterConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.exception.InvalidBeanException;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.component.WriterFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.RoutingItemWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.classify.Classifier;
+import org.springframework.context.ApplicationContext;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Factory builder responsible for creating and configuring {@link RoutingItemWriter}
+ * instances based on declarative {@link ComponentConfig} definitions.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RoutingWriterBuilder {
+
+    /**
+     * Builds a {@link RoutingItemWriter}, creating each route writer through the writer factory.
+     *
+     * @param config        the component configuration containing the router and the route writers
+     * @param context       the Spring {@link ApplicationContext} used to resolve the classifier bean
+     * @param writerFactory the factory building the route writers
+     * @param <O>           the output item type
+     * @return a configured {@link RoutingItemWriter} instance
+     */
+    public static <O> RoutingItemWriter<O> build(ComponentConfig config, ApplicationContext context, WriterFactory writerFactory) {
+        log.debug("Building RoutingItemWriter for component '{}'", config.getName());
+
+        try {
+            // Normalize configuration structure (convert numeric-keyed maps to lists)
+            Object normalizedMap = MapUtils.normalizeMapStructure(config.getConfig());
+            log.debug("Normalized configuration map: {}", normalizedMap);
+
+            // Map normalized configuration into DTO
+            RoutingWriterConfig routingConfig = MapUtils.mapToConfigDto(normalizedMap, RoutingWriterConfig.class);
+            log.debug("Mapped RoutingWriterConfig DTO: {}", routingConfig);
+
+            if (!routingConfig.isValidRouter()) {
+                throw new IllegalArgumentException("exactly one of 'expression' and 'classifier' must be provided");
+            }
+            if (routingConfig.getRoutes() == null || routingConfig.getRoutes().isEmpty()) {
+                throw new IllegalArgumentException("'routes' must be provided");
+            }
+
+            Classifier<O, String> router = StringUtils.hasText(routingConfig.getExpression())
+                    ? expressionRouter(routingConfig.getExpression())
+                    : classifierBean(context, routingConfig.getClassifier());
+
+            // Build one writer per route, keyed by its component name
+            Map<String, ItemWriter<O>> routes = new LinkedHashMap<>();
+            for (ComponentConfig route : routingConfig.getRoutes()) {
+                if (routes.containsKey(route.getName())) {
+                    throw new IllegalArgumentException("Duplicate route name: " + route.getName());
+                }
+                routes.put(route.getName(), writerFactory.createWriter(route));
+            }
+
+            RoutingItemWriter<O> writer = new RoutingItemWriter<>(router, routes, routingConfig.getDefaultRoute());
+
+            log.info("RoutingItemWriter '{}' successfully created with routes {} (router: {}, default route: {})",
+                    config.getName(), routes.keySet(),
+                    StringUtils.hasText(routingConfig.getExpression())
+                            ? "expression '" + routingConfig.getExpression() + "'"
+                            : "classifier '" + routingConfig.getClassifier() + "'",
+                    routingConfig.getDefaultRoute());
+
+            return writer;
+
+        } catch (Exception e) {
+            String errorMsg = String.format(
+                    "Failed to initialize RoutingItemWriter for component '%s': %s",
+                    config.getName(), e.getMessage()
+            );
+            log.error(errorMsg, e);
+            throw new IllegalArgumentException(errorMsg, e);
+        }
+    }
+
+    /**
+     * Routes on a SpEL expression evaluated with the item as root object, compiled to bytecode once it
+     * has run a few times.
+     */
+    private static <O> Classifier<O, String> expressionRouter(String source) {
+        SpelExpressionParser parser = new SpelExpressionParser(
+                new SpelParserConfiguration(SpelCompilerMode.MIXED, RoutingWriterBuilder.class.getClassLoader()));
+        Expression expression = parser.parseExpression(source);
+        EvaluationContext evaluationContext = new StandardEvaluationContext();
+        return item -> {
+            Object route = expression.getValue(evaluationContext, item);
+            return route != null ? route.toString() : null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O> Classifier<O, String> classifierBean(ApplicationContext context, String name) {
+        Object bean = context.getBeansWithAnnotation(BulkBatchClassifier.class).values().stream()
+                .filter(candidate -> {
+                    BulkBatchClassifier ann = candidate.getClass().getAnnotation(BulkBatchClassifier.class);
+                    return ann != null && ann.name().equals(name);
+                })
+                .findFirst()
+                .orElseThrow(() -> new InvalidBeanException("No classifier bean found with annotation name: " + name));
+
+        if (!(bean instanceof Classifier<?, ?> classifier)) {
+            throw new InvalidBeanException(
+                    "Bean '" + name + "' annotated with @BulkBatchClassifier does not implement Classifier");
+        }
+        return item -> {
+            Object route = ((Classifier<O, ?>) classifier).classify(item);
+            return route != null ? route.toString() : null;
+        };
+    }
+}
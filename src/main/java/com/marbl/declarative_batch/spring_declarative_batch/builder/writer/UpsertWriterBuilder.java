@@ -0,0 +1,86 @@
+package com.marbl.declarative_batch.spring_declarative_batch.builder.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.writer.UpsertWriterConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.enums.PagingProviderType;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.UpsertItemWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.DatasourceUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory builder responsible for creating and configuring {@link UpsertItemWriter}
+ * instances based on declarative {@link ComponentConfig} definitions.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class UpsertWriterBuilder {
+
+    /**
+     * Builds an {@link UpsertItemWriter}, generating the statement for the dialect of the datasource.
+     *
+     * @param config  the component configuration containing writer properties
+     * @param context the Spring {@link ApplicationContext} used to resolve dependencies
+     * @param <O>     the output item type
+     * @return a configured {@link UpsertItemWriter} instance
+     */
+    public static <O> UpsertItemWriter<O> build(ComponentConfig config, ApplicationContext context) {
+        log.debug("Building UpsertItemWriter for component '{}'", config.getName());
+
+        try {
+            // Normalize configuration structure (convert numeric-keyed maps to lists)
+            Object normalizedMap = MapUtils.normalizeMapStructure(config.getConfig());
+            log.debug("Normalized configuration map: {}", normalizedMap);
+
+            // Map normalized configuration into DTO
+            UpsertWriterConfig upsertConfig = MapUtils.mapToConfigDto(normalizedMap, UpsertWriterConfig.class);
+            log.debug("Mapped UpsertWriterConfig DTO: {}", upsertConfig);
+
+            List<String> keyColumns = upsertConfig.getKeyColumns();
+            if (!StringUtils.hasText(upsertConfig.getTable()) || keyColumns == null || keyColumns.isEmpty()) {
+                throw new IllegalArgumentException("'table' and 'keyColumns' must be provided");
+            }
+            List<String> valueColumns = upsertConfig.getValueColumns() != null ? upsertConfig.getValueColumns() : List.of();
+            List<String> columns = new ArrayList<>(keyColumns);
+            columns.addAll(valueColumns);
+            List<String> fieldNames = upsertConfig.getFieldNames() != null ? upsertConfig.getFieldNames() : columns;
+            if (fieldNames.size() != columns.size()) {
+                throw new IllegalArgumentException(String.format(
+                        "'fieldNames' must have one entry per key and value column (%d columns, %d fieldNames)",
+                        columns.size(), fieldNames.size()));
+            }
+
+            // Resolve datasource and its dialect
+            DataSource dataSource = DatasourceUtils.getDataSource(context, upsertConfig.getDatasource());
+            PagingProviderType dialect = upsertConfig.getProviderType() != null
+                    ? upsertConfig.getProviderType()
+                    : PagingProviderType.fromDatasourceType(DatasourceUtils.getDataSourceType(context, upsertConfig.getDatasource()));
+            log.debug("Resolved DataSource '{}' for component '{}' (dialect {})",
+                    upsertConfig.getDatasource(), config.getName(), dialect);
+
+            UpsertItemWriter<O> writer = new UpsertItemWriter<>(
+                    dataSource, dialect, upsertConfig.getTable(), keyColumns, valueColumns, fieldNames);
+
+            log.info("UpsertItemWriter '{}' successfully created using datasource '{}' and SQL '{}'",
+                    config.getName(), upsertConfig.getDatasource(), writer.getSql());
+
+            return writer;
+
+        } catch (Exception e) {
+            String errorMsg = String.format(
+                    "Failed to initialize UpsertItemWriter for component '%s': %s",
+                    config.getName(), e.getMessage()
+            );
+            log.error(errorMsg, e);
+            throw new IllegalArgumentException(errorMsg, e);
+        }
+    }
+}
@@ -3,10 +3,14 @@ package com.marbl.declarative_batch.spring_declarative_batch.configuration;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.BatchJobConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.component.*;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.job.BatchJobFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.metrics.StepFlightRecorderFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.metrics.StepMetricsFactory;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.step.StepFactory;
 import com.marbl.declarative_batch.spring_declarative_batch.support.executor.BatchJobExecutor;
 import com.marbl.declarative_batch.spring_declarative_batch.support.incrementer.DatabaseRunIdIncrementer;
 import com.marbl.declarative_batch.spring_declarative_batch.support.log.LoggingStepListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.JobRegistry;
@@ -14,9 +18,11 @@ import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -48,8 +54,9 @@ public class DeclarativeBatchJobAutoConfiguration {
                                            JobExplorer jobExplorer,
                                            ApplicationContext context,
                                            @Nullable RunIdIncrementer runIdIncrementer,
-                                           PlatformTransactionManager transactionManager) {
-        return new BatchJobFactory(jobConfig, jobRepository, jobExplorer, context, runIdIncrementer, transactionManager);
+                                           PlatformTransactionManager transactionManager,
+                                           PartitionerFactory partitionerFactory) {
+        return new BatchJobFactory(jobConfig, jobRepository, jobExplorer, context, runIdIncrementer, transactionManager, partitionerFactory);
     }
 
     @Bean
@@ -60,8 +67,24 @@ public class DeclarativeBatchJobAutoConfiguration {
                                    ReaderFactory readerFactory,
                                    ProcessorFactory processorFactory,
                                    WriterFactory writerFactory,
-                                   ListenerFactory listenerFactory) {
-        return new StepFactory(jobRepository, transactionManager, loggingStepListener, readerFactory, processorFactory, writerFactory, listenerFactory);
+                                   ListenerFactory listenerFactory,
+                                   @Nullable StepMetricsFactory stepMetricsFactory,
+                                   @Nullable StepFlightRecorderFactory stepFlightRecorderFactory) {
+        return new StepFactory(jobRepository, transactionManager, loggingStepListener, readerFactory, processorFactory, writerFactory, listenerFactory, stepMetricsFactory, stepFlightRecorderFactory);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bulk.batch-job.metrics", name = "enabled", havingValue = "true")
+    public StepMetricsFactory stepMetricsFactory(BatchJobConfig jobConfig, ObjectProvider<MeterRegistry> meterRegistry) {
+        // Without an application registry (e.g. no actuator) meters go to the global composite registry
+        return new StepMetricsFactory(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                jobConfig.getMetrics(), jobConfig.getName());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bulk.batch-job.jfr", name = "enabled", havingValue = "true")
+    public StepFlightRecorderFactory stepFlightRecorderFactory(BatchJobConfig jobConfig) {
+        return new StepFlightRecorderFactory(jobConfig.getJfr(), jobConfig.getName());
     }
 
     @Bean
@@ -76,6 +99,10 @@ public class DeclarativeBatchJobAutoConfiguration {
     @Primary
     public WriterFactory writerFactory(ApplicationContext context) { return new WriterFactory(context); }
 
+    @Bean
+    @Primary
+    public PartitionerFactory partitionerFactory(ApplicationContext context) { return new PartitionerFactory(context); }
+
     @Bean
     @Primary
     public ListenerFactory listenerFactory(ApplicationContext context) { return new ListenerFactory(context); }
@@ -0,0 +1,26 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class AdaptiveChunkConfig {
+
+    @Min(value = 1, message = "'min' must be greater than zero")
+    private int min = 10; // smallest chunk size, also used after rollbacks
+    @Min(value = 1, message = "'max' must be greater than zero")
+    private int max = 1000; // largest chunk size, also used as paging reader page size
+    private Integer initial; // first chunk size, defaults to min
+    @Min(value = 1, message = "'targetCommitMillis' must be greater than zero")
+    private long targetCommitMillis = 1000; // desired write + commit time per chunk
+
+    @AssertTrue(message = "'min' must not be greater than 'max', and 'initial' must be between them")
+    public boolean isValidBounds() {
+        return min <= max && (initial == null || (initial >= min && initial <= max));
+    }
+
+    public int resolveInitial() {
+        return initial != null ? initial : min;
+    }
+}
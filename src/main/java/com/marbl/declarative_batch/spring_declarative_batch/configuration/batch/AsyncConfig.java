@@ -0,0 +1,12 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class AsyncConfig {
+
+    @Min(value = 1, message = "'threads' must be greater than zero")
+    private int threads = 4; // number of threads processing items concurrently
+    private ConcurrencyConfig.ExecutorType executorType = ConcurrencyConfig.ExecutorType.THREAD_POOL;
+}
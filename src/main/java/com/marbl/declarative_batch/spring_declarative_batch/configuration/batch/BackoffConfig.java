@@ -0,0 +1,29 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class BackoffConfig {
+
+    public enum BackoffType {
+        FIXED,             // always waits initialMillis
+        EXPONENTIAL,       // waits initialMillis, then multiplies the wait by multiplier
+        EXPONENTIAL_JITTER // like EXPONENTIAL, each wait randomized between itself and multiplier times itself
+    }
+
+    private BackoffType type = BackoffType.EXPONENTIAL;
+    @Min(value = 1, message = "'initialMillis' must be greater than zero")
+    private long initialMillis = 100; // first wait before a retry
+    @DecimalMin(value = "1.0", message = "'multiplier' must be at least 1")
+    private double multiplier = 2.0; // growth of the wait after each failed attempt
+    @Min(value = 1, message = "'maxMillis' must be greater than zero")
+    private long maxMillis = 10_000; // upper bound of a single wait
+
+    @AssertTrue(message = "'initialMillis' must not be greater than 'maxMillis'")
+    public boolean isValidBounds() {
+        return initialMillis <= maxMillis;
+    }
+}
@@ -15,11 +15,15 @@ public class BatchJobConfig {
 
     @NotEmpty(message = "The batch Job name must be provided and cannot be empty")
     private String name;
+    private boolean requireSteplets = true; // false: chunk steps without a @BulkBatchSteplet are built from their YAML components
     @Valid
     private ParametersValidatorConfig validator;
     @Valid
     private ListenerConfig listener;
     @Valid
+    private MetricsConfig metrics = new MetricsConfig(); // Micrometer metrics of the chunk steps
+    private FlightRecorderConfig jfr = new FlightRecorderConfig(); // JFR events of the chunk steps
+    @Valid
     @NotEmpty(message = "The batch job must contain at least one step")
     private List<StepsConfig> steps;
 
@@ -1,5 +1,6 @@
 package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.Data;
@@ -16,4 +17,10 @@ public class ComponentConfig {
 
     private Map<String, Object> config;
 
+    @Valid
+    private AsyncConfig async; // processor only: process items on a thread pool
+
+    @Valid
+    private PrefetchConfig prefetch; // reader only: read ahead on a background thread
+
 }
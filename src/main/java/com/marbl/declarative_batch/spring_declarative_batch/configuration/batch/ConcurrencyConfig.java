@@ -0,0 +1,23 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class ConcurrencyConfig {
+
+    public enum ExecutorType {
+        SIMPLE,
+        THREAD_POOL,
+        VIRTUAL
+    }
+
+    @Min(value = 1, message = "'threads' must be greater than zero")
+    private int threads = 4; // number of worker threads
+    private Integer throttleLimit; // max chunks processed concurrently, defaults to threads
+    private ExecutorType executorType = ExecutorType.THREAD_POOL;
+
+    public int resolveThrottleLimit() {
+        return throttleLimit != null ? throttleLimit : threads;
+    }
+}
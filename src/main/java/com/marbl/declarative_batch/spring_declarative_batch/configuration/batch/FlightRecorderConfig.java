@@ -0,0 +1,10 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import lombok.Data;
+
+@Data
+public class FlightRecorderConfig {
+
+    private boolean enabled = false; // emit JFR events for the phases of every chunk step
+    private boolean byteEstimates = true; // estimate the size of the items read and written while recording
+}
@@ -0,0 +1,13 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class MetricsConfig {
+
+    private boolean enabled = false; // attach the Micrometer metrics listener to every chunk step
+    private boolean histograms = false; // publish percentile histograms for the timers
+    @NotBlank(message = "'prefix' must not be blank")
+    private String prefix = "bulk.step"; // prefix of every meter name
+}
@@ -0,0 +1,19 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class PartitionConfig {
+
+    public enum ColumnType {
+        NUMBER,
+        DATE
+    }
+
+    @Min(value = 1, message = "'gridSize' must be greater than zero")
+    private int gridSize = 4; // number of worker partitions, also used as thread count
+    private String column; // paging readers only: range column used to split the reader input
+    private ColumnType columnType = ColumnType.NUMBER;
+    private ConcurrencyConfig.ExecutorType executorType = ConcurrencyConfig.ExecutorType.THREAD_POOL;
+}
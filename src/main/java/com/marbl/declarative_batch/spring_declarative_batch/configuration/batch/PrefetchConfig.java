@@ -0,0 +1,11 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class PrefetchConfig {
+
+    @Min(value = 1, message = "'chunks' must be greater than zero")
+    private int chunks = 2; // number of chunks read ahead of the processor
+}
@@ -1,5 +1,8 @@
 package com.marbl.declarative_batch.spring_declarative_batch.configuration.batch;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.util.List;
@@ -8,4 +11,16 @@ import java.util.List;
 public class RetryConfig {
     private int limit = 3; // default retry limit
     private List<Class<? extends Throwable>> exceptions; // exceptions to retry
-}
\ No newline at end of file
+    @Valid
+    private List<ExceptionLimit> exceptionLimits; // exceptions to retry with their own limit
+    @Valid
+    private BackoffConfig backoff; // wait between attempts, immediate retries when absent
+
+    @Data
+    public static class ExceptionLimit {
+        @NotNull(message = "'exception' must be provided")
+        private Class<? extends Throwable> exception;
+        @Min(value = 1, message = "'limit' must be greater than zero")
+        private int limit = 3; // attempts for this exception and its subclasses
+    }
+}
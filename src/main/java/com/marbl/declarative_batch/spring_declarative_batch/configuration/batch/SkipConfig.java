@@ -9,4 +9,10 @@ public class SkipConfig {
     private int limit = 10; // default skip limit
     private List<Class<? extends Throwable>> exceptionsToSkip; // exceptions to skip
     private List<Class<? extends Throwable>> exceptionsNoSkip; // exceptions to  no skip
-}
\ No newline at end of file
+    private SkipStrategy strategy = SkipStrategy.SCAN; // how the failing items of a chunk write are located
+
+    public enum SkipStrategy {
+        SCAN,  // roll back the chunk and write it again one item per transaction
+        BISECT // split the failed write in halves under savepoints, within the chunk transaction
+    }
+}
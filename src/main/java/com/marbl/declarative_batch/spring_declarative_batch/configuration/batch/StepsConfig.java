@@ -28,6 +28,9 @@ public class StepsConfig {
 
     private Integer chunk = 10;
 
+    @Valid
+    private AdaptiveChunkConfig adaptiveChunk; // replaces 'chunk' with a latency-driven size
+
     // --- Components ---
     @Valid
     private ComponentConfig reader;
@@ -44,10 +47,17 @@ public class StepsConfig {
     @Valid
     private List<ListenerConfig> listeners;
 
+    @Valid
     private RetryConfig retry;
     private SkipConfig skip;
     private TransactionConfig transaction;
 
+    @Valid
+    private ConcurrencyConfig concurrency;
+
+    @Valid
+    private PartitionConfig partition;
+
     private String next;
 
     @Valid
@@ -63,6 +73,32 @@ public class StepsConfig {
         return true;
     }
 
+    // --- Validation for concurrency/partition ---
+    @AssertTrue(message = "Both 'concurrency' and 'partition' cannot be set simultaneously")
+    public boolean isValidParallelism() {
+        if (concurrency != null && partition != null) {
+            log.error("Step [{}] - 'concurrency' and 'partition' are mutually exclusive: partition workers are already parallel.", name);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Name of the chunk step built from this configuration: partitioned steps expose the
+     * configured name on the manager step, so the worker step gets a distinct one.
+     */
+    public String resolveChunkStepName() {
+        return partition != null ? name + "-worker" : name;
+    }
+
+    /**
+     * Number of items readers fetch per round trip: the fixed chunk size, or the upper bound of
+     * an adaptive chunk so that a single page always covers a whole chunk.
+     */
+    public int resolvePageSize() {
+        return adaptiveChunk != null ? adaptiveChunk.getMax() : chunk;
+    }
+
     // --- Validation for STEP vs TASKLET ---
     @AssertTrue(message = "Invalid configuration: STEP requires reader, processor, and writer; TASKLET requires tasklet bean name only.")
     public boolean isValidStepTypeConfiguration() {
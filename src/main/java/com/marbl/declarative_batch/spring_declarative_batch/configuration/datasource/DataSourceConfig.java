@@ -2,6 +2,9 @@ package com.marbl.declarative_batch.spring_declarative_batch.configuration.datas
 
 import lombok.Data;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Data
 public class DataSourceConfig {
 
@@ -13,6 +16,7 @@ public class DataSourceConfig {
     private String password;
     private String driverClassName;
     private IsolationLevelEnum isolationLevelEnum = IsolationLevelEnum.ISOLATION_SERIALIZABLE;
+    private Map<String, String> properties = new LinkedHashMap<>(); // driver properties, e.g. reWriteBatchedInserts
 
 
     public enum IsolationLevelEnum {
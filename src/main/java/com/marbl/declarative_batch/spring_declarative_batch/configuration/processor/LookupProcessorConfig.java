@@ -0,0 +1,33 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.processor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class LookupProcessorConfig implements ProcessorConfig {
+
+    @NotBlank(message = "'datasource' must be provided")
+    private String datasource;
+
+    @NotBlank(message = "'sql' must be provided")
+    private String sql; // reference query, loaded once per step execution
+
+    private String keyColumn; // defaults to the first column of the query
+
+    @NotBlank(message = "'keyProperty' must be provided")
+    private String keyProperty; // item property holding the lookup key
+
+    @NotEmpty(message = "'fields' must be provided")
+    private Map<String, String> fields; // column -> item property set from the matching row
+
+    private MissingKeyPolicy onMissing = MissingKeyPolicy.KEEP;
+
+    private boolean offHeap = false; // keep the reference rows in direct memory, for large tables
+
+    public enum MissingKeyPolicy {
+        KEEP, FILTER, FAIL
+    }
+}
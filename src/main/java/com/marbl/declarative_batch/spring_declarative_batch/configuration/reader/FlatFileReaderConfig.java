@@ -7,6 +7,11 @@ import lombok.Data;
 @Data
 public class FlatFileReaderConfig implements ReaderConfig {
 
+    public enum MappingMode {
+        BEAN_WRAPPER,
+        DIRECT
+    }
+
     @NotBlank(message = "'resource' must be provided")
     private String resource;
 
@@ -18,4 +23,6 @@ public class FlatFileReaderConfig implements ReaderConfig {
 
     @NotBlank(message = "'fieldMapperClass' must be provided")
     private String fieldMapperClass;
+
+    private MappingMode mappingMode = MappingMode.BEAN_WRAPPER; // DIRECT: setters/record constructor bound once per step
 }
@@ -1,5 +1,8 @@
 package com.marbl.declarative_batch.spring_declarative_batch.configuration.reader;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
@@ -15,6 +18,24 @@ public class JdbcCursorReaderConfig implements ReaderConfig {
     @NotBlank(message = "'preparedStatementClass' must be provided")
     private String preparedStatementClass;
 
-    @NotBlank(message = "'rowMapperClass' must be provided")
-    private String rowMapperClass;
+    private String rowMapperClass; // custom RowMapper, alternative to 'rowMapper'
+
+    @Valid
+    private RowMapperConfig rowMapper; // declarative column mapping, alternative to 'rowMapperClass'
+
+    @Min(value = 1, message = "'fetchSize' must be greater than zero")
+    private Integer fetchSize; // rows per round-trip, driver default when not set
+
+    @Min(value = 1, message = "'maxRows' must be greater than zero")
+    private Integer maxRows; // upper bound of the rows returned by the query
+
+    @Min(value = 1, message = "'queryTimeout' must be greater than zero")
+    private Integer queryTimeout; // seconds
+
+    private boolean streaming = false; // server-side cursor, tuned for the type of the datasource
+
+    @AssertTrue(message = "exactly one of 'rowMapperClass' and 'rowMapper' must be provided")
+    public boolean isValidRowMapper() {
+        return (rowMapperClass != null && !rowMapperClass.isBlank()) != (rowMapper != null);
+    }
 }
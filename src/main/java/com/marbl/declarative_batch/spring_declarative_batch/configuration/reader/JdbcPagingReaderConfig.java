@@ -2,6 +2,8 @@ package com.marbl.declarative_batch.spring_declarative_batch.configuration.reade
 
 import com.marbl.declarative_batch.spring_declarative_batch.enums.PagingProviderType;
 import com.marbl.declarative_batch.spring_declarative_batch.model.PagingSqlModel;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
@@ -16,10 +18,19 @@ public class JdbcPagingReaderConfig implements ReaderConfig {
     @NotBlank(message = "'providerType' must be provided")
     private PagingProviderType providerType;
 
-    @NotBlank(message = "'rowMapperClass' must be provided")
-    private String rowMapperClass;
+    private String rowMapperClass; // custom RowMapper, alternative to 'rowMapper'
+
+    @Valid
+    private RowMapperConfig rowMapper; // declarative column mapping, alternative to 'rowMapperClass'
 
     private PagingSqlModel clause;
 
     private Map<String, Object> parameters;
+
+    private Map<String, Object> startAfter; // sort key values the first page starts after, e.g. {id: 5000}
+
+    @AssertTrue(message = "exactly one of 'rowMapperClass' and 'rowMapper' must be provided")
+    public boolean isValidRowMapper() {
+        return (rowMapperClass != null && !rowMapperClass.isBlank()) != (rowMapper != null);
+    }
 }
@@ -0,0 +1,15 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.reader;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class RowMapperConfig {
+
+    @NotBlank(message = "'rowMapper.dto' must be provided")
+    private String dto; // target class, resolved like the other DTO classes
+
+    private Map<String, String> columns; // column label -> property; when empty every property maps to the same-named column
+}
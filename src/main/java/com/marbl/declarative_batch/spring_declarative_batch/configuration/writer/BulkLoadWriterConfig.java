@@ -0,0 +1,29 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.writer;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkLoadWriterConfig {
+
+    @NotBlank(message = "'datasource' must be provided")
+    private String datasource;
+
+    @NotBlank(message = "'table' must be provided")
+    private String table;
+
+    @NotEmpty(message = "'columns' must be provided")
+    private List<String> columns; // target table columns, in load order
+
+    private List<String> fieldNames; // item properties for each column, defaults to the column names
+
+    private LoadMethod method = LoadMethod.AUTO;
+
+    public enum LoadMethod {
+        AUTO, // native loader of the datasource type, JDBC batch when there is none
+        JDBC  // always JDBC batch inserts
+    }
+}
@@ -0,0 +1,25 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ConcurrencyConfig;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class CompositeWriterConfig {
+
+    @Valid
+    @NotEmpty(message = "'delegates' must be provided")
+    private List<ComponentConfig> delegates; // writers receiving every chunk
+
+    private Integer threads; // threads writing concurrently, defaults to the number of concurrent delegates
+    private ConcurrencyConfig.ExecutorType executorType = ConcurrencyConfig.ExecutorType.THREAD_POOL;
+
+    private List<String> concurrent = new ArrayList<>(); // non-transactional delegates written on the executor, outside the chunk transaction
+
+    private List<String> optional = new ArrayList<>(); // delegates whose failures are logged without failing the chunk
+}
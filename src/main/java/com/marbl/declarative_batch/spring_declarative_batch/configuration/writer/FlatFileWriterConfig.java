@@ -7,6 +7,11 @@ import lombok.Data;
 @Data
 public class FlatFileWriterConfig implements WriterConfig {
 
+    public enum AggregationMode {
+        BEAN_WRAPPER,
+        DIRECT
+    }
+
     @NotBlank(message = "'resource' must be provided")
     private String resource;
 
@@ -18,4 +23,6 @@ public class FlatFileWriterConfig implements WriterConfig {
 
     @NotEmpty(message = "'fieldNames' must contain at least one value")
     private String[] fieldNames;
+
+    private AggregationMode aggregationMode = AggregationMode.BEAN_WRAPPER; // DIRECT: getters bound once, one buffer per chunk
 }
@@ -1,5 +1,6 @@
 package com.marbl.declarative_batch.spring_declarative_batch.configuration.writer;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
@@ -14,4 +15,19 @@ public class JdbcBatchWriterConfig {
 
     @NotBlank(message = "'preparedStatementClass' must be provided")
     private String preparedStatementClass;
+
+    private Integer batchSize; // max items per executeBatch, whole chunk when not set
+
+    private Integer rowsPerStatement; // rows per INSERT rewritten as multi-row VALUES, 1 disables the rewriting
+
+    private boolean assertUpdates = true; // fail when a statement updates no rows
+
+    @AssertTrue(message = "'batchSize' and 'rowsPerStatement' must be positive")
+    public boolean isValidBatchTuning() {
+        return (batchSize == null || batchSize > 0) && (rowsPerStatement == null || rowsPerStatement > 0);
+    }
+
+    public boolean isTuned() {
+        return batchSize != null || (rowsPerStatement != null && rowsPerStatement > 1);
+    }
 }
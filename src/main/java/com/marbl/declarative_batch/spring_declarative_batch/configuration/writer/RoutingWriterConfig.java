@@ -0,0 +1,28 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RoutingWriterConfig {
+
+    private String expression; // SpEL evaluated on each item giving the route, e.g. "region" or "email == null ? 'errors' : 'ok'"
+
+    private String classifier; // name of a @BulkBatchClassifier bean, alternative to 'expression'
+
+    @Valid
+    @NotEmpty(message = "'routes' must be provided")
+    private List<ComponentConfig> routes; // one writer per route, the component name is the route key
+
+    private String defaultRoute; // route of items whose key has no writer, none by default (the chunk fails)
+
+    @AssertTrue(message = "exactly one of 'expression' and 'classifier' must be provided")
+    public boolean isValidRouter() {
+        return (expression != null && !expression.isBlank()) != (classifier != null && !classifier.isBlank());
+    }
+}
@@ -0,0 +1,28 @@
+package com.marbl.declarative_batch.spring_declarative_batch.configuration.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.enums.PagingProviderType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class UpsertWriterConfig {
+
+    @NotBlank(message = "'datasource' must be provided")
+    private String datasource;
+
+    @NotBlank(message = "'table' must be provided")
+    private String table;
+
+    @NotEmpty(message = "'keyColumns' must be provided")
+    private List<String> keyColumns; // columns identifying the row (primary or unique key)
+
+    private List<String> valueColumns = new ArrayList<>(); // columns updated when the row exists
+
+    private List<String> fieldNames; // item properties for the key then the value columns, defaults to the column names
+
+    private PagingProviderType providerType; // SQL dialect, defaults to the datasource type
+}
@@ -1,12 +1,22 @@
 package com.marbl.declarative_batch.spring_declarative_batch.enums;
 
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.JdbcPagingReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.model.PagingSqlModel;
 import com.marbl.declarative_batch.spring_declarative_batch.model.SortKey;
+import com.marbl.declarative_batch.spring_declarative_batch.support.reader.KeysetPagingQueryProvider;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.SqlClauseUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.batch.item.database.support.*;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public enum PagingProviderType {
@@ -18,6 +28,17 @@ public enum PagingProviderType {
             setupProvider(provider, config);
             return provider;
         }
+
+        @Override
+        protected boolean supportsRowValues() {
+            return true;
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+            return insertSql(table, keyColumns, valueColumns) + " ON CONFLICT (" + String.join(", ", keyColumns) + ") "
+                    + (valueColumns.isEmpty() ? "DO NOTHING" : "DO UPDATE SET " + assignments(valueColumns, "EXCLUDED.%s"));
+        }
     },
     ORACLE {
         @Override
@@ -26,6 +47,14 @@ public enum PagingProviderType {
             setupProvider(provider, config);
             return provider;
         }
+
+        @Override
+        public String upsertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+            List<String> columns = concat(keyColumns, valueColumns);
+            String source = "(SELECT " + columns.stream().map(c -> "? AS " + c).collect(Collectors.joining(", "))
+                    + " FROM DUAL) s";
+            return mergeSql(table, keyColumns, valueColumns, source, "");
+        }
     },
     MYSQL {
         @Override
@@ -34,6 +63,16 @@ public enum PagingProviderType {
             setupProvider(provider, config);
             return provider;
         }
+
+        @Override
+        protected boolean supportsRowValues() {
+            return true;
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+            return onDuplicateKeySql(table, keyColumns, valueColumns);
+        }
     },
     MARIADB {
         @Override
@@ -43,6 +82,16 @@ public enum PagingProviderType {
             setupProvider(provider, config);
             return provider;
         }
+
+        @Override
+        protected boolean supportsRowValues() {
+            return true;
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+            return onDuplicateKeySql(table, keyColumns, valueColumns);
+        }
     },
     SQLSERVER {
         @Override
@@ -51,6 +100,13 @@ public enum PagingProviderType {
             setupProvider(provider, config);
             return provider;
         }
+
+        @Override
+        public String upsertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+            // HOLDLOCK keeps concurrent merges on the same key from racing; MERGE must end with a semicolon
+            return mergeSql(table + " WITH (HOLDLOCK)", keyColumns, valueColumns,
+                    valuesSource(concat(keyColumns, valueColumns)), ";");
+        }
     },
     DB2 {
         @Override
@@ -67,12 +123,93 @@ public enum PagingProviderType {
             setupProvider(provider, config);
             return provider;
         }
+
+        @Override
+        protected boolean supportsRowValues() {
+            return true;
+        }
+
+        @Override
+        public String upsertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+            // H2 MERGE ... KEY updates the row with the same key or inserts a new one
+            List<String> columns = concat(keyColumns, valueColumns);
+            return "MERGE INTO " + table + " (" + String.join(", ", columns) + ") KEY (" + String.join(", ", keyColumns)
+                    + ") VALUES (" + placeholders(columns.size()) + ")";
+        }
     };
 
     private static final Logger log = LoggerFactory.getLogger(PagingProviderType.class);
 
     public abstract PagingQueryProvider create(JdbcPagingReaderConfig config);
 
+    /**
+     * Returns the dialect matching a datasource {@code type} (e.g. {@code POSTGRES}, {@code ORACLE}, {@code H2}).
+     *
+     * @throws IllegalArgumentException if the type has no dialect
+     */
+    public static PagingProviderType fromDatasourceType(String type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Datasource type must be provided");
+        }
+        return switch (type.toUpperCase()) {
+            case "POSTGRES" -> POSTGRESQL;
+            case "MSSQL" -> SQLSERVER;
+            default -> valueOf(type.toUpperCase());
+        };
+    }
+
+    /**
+     * Returns a statement inserting a row or, when a row with the same key columns exists, updating its value
+     * columns. Parameters are positional: the key columns followed by the value columns. With no value
+     * columns an existing row is left unchanged.
+     */
+    public String upsertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+        // Standard SQL MERGE (DB2)
+        return mergeSql(table, keyColumns, valueColumns, valuesSource(concat(keyColumns, valueColumns)), "");
+    }
+
+    /**
+     * Whether the dialect supports row-value comparisons such as {@code (a, b) > (?, ?)}.
+     */
+    protected boolean supportsRowValues() {
+        return false;
+    }
+
+    /**
+     * Creates the query provider of a paging reader. With a {@code startAfter} key, a composite sort key
+     * on a dialect supporting row values, or a sort key qualified by a table alias, the pages are selected
+     * by a {@link KeysetPagingQueryProvider}; otherwise the plain dialect provider is returned.
+     *
+     * @throws IllegalArgumentException if {@code startAfter} does not hold a value for every sort key
+     */
+    public PagingQueryProvider createKeyset(JdbcPagingReaderConfig config) {
+        List<SortKey> keys = config.getClause().getSortClause();
+        Map<String, Object> startAfter = config.getStartAfter();
+        boolean hasStartAfter = startAfter != null && !startAfter.isEmpty();
+        boolean rowValue = keys.size() > 1 && supportsRowValues()
+                && keys.stream().map(SortKey::getOrder).distinct().count() == 1;
+        boolean aliased = keys.stream().anyMatch(key -> key.getKey().indexOf('.') >= 0);
+        if (!rowValue && !hasStartAfter && !aliased) {
+            // The dialect provider already expands the keyset predicate over the ordered sort keys
+            return create(config);
+        }
+
+        if (hasStartAfter && !keys.stream().map(SortKey::getKey).collect(Collectors.toSet()).equals(startAfter.keySet())) {
+            throw new IllegalArgumentException("'startAfter' must hold exactly one value for each sort key "
+                    + keys.stream().map(SortKey::getKey).toList() + ", found " + startAfter.keySet());
+        }
+
+        PagingQueryProvider firstPage = create(hasStartAfter
+                ? withPredicate(config, KeysetPagingQueryProvider.startAfterPredicate(keys, rowValue))
+                : config);
+        PagingQueryProvider remainingPages = create(
+                withPredicate(config, KeysetPagingQueryProvider.remainingPagesPredicate(keys, rowValue)));
+
+        log.info("Keyset pagination on {} ({} predicate{})", keys.stream().map(SortKey::getKey).toList(),
+                rowValue ? "row-value" : "expanded", hasStartAfter ? ", starting after " + startAfter : "");
+        return new KeysetPagingQueryProvider(firstPage, remainingPages, sortKeys(keys));
+    }
+
     //Helper method used to configure select/from/where and sortKeys
     protected void setupProvider(PagingQueryProvider provider, JdbcPagingReaderConfig config) {
         if (provider instanceof AbstractSqlPagingQueryProvider sqlProvider) {
@@ -80,11 +217,8 @@ public enum PagingProviderType {
             sqlProvider.setFromClause(config.getClause().getFromClause());
             sqlProvider.setWhereClause(config.getClause().getWhereClause());
             sqlProvider.setGroupClause(config.getClause().getGroupByClause());
-            sqlProvider.setSortKeys(config.getClause().getSortClause().stream()
-                    .collect(Collectors.toMap(
-                            SortKey::getKey,
-                            SortKey::getOrder
-                    )));
+            // Sort keys keep their declared order, which defines the composite key
+            sqlProvider.setSortKeys(sortKeys(config.getClause().getSortClause()));
             log.info("Slq provider: {}", sqlProvider);
         } else {
             throw new IllegalStateException(
@@ -93,4 +227,86 @@ public enum PagingProviderType {
         }
     }
 
+    private static Map<String, Order> sortKeys(List<SortKey> keys) {
+        return keys.stream().collect(Collectors.toMap(
+                SortKey::getKey,
+                SortKey::getOrder,
+                (first, second) -> first,
+                LinkedHashMap::new
+        ));
+    }
+
+    private static String insertSql(String table, List<String> keyColumns, List<String> valueColumns) {
+        List<String> columns = concat(keyColumns, valueColumns);
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders(columns.size()) + ")";
+    }
+
+    private static String onDuplicateKeySql(String table, List<String> keyColumns, List<String> valueColumns) {
+        // Without value columns the no-op assignment of the first key keeps the existing row
+        return insertSql(table, keyColumns, valueColumns) + " ON DUPLICATE KEY UPDATE " + (valueColumns.isEmpty()
+                ? keyColumns.get(0) + " = " + keyColumns.get(0)
+                : assignments(valueColumns, "VALUES(%s)"));
+    }
+
+    /**
+     * Builds a {@code MERGE} of the parameter row exposed as {@code source}, a derived table aliased {@code s}.
+     */
+    private static String mergeSql(String table, List<String> keyColumns, List<String> valueColumns,
+                                   String source, String terminator) {
+        List<String> columns = concat(keyColumns, valueColumns);
+        StringBuilder sql = new StringBuilder("MERGE INTO ").append(table).append(" t USING ").append(source)
+                .append(" ON (")
+                .append(keyColumns.stream().map(k -> "t." + k + " = s." + k).collect(Collectors.joining(" AND ")))
+                .append(")");
+        if (!valueColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ")
+                    .append(valueColumns.stream().map(v -> "t." + v + " = s." + v).collect(Collectors.joining(", ")));
+        }
+        return sql.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns))
+                .append(") VALUES (").append(columns.stream().map(c -> "s." + c).collect(Collectors.joining(", ")))
+                .append(")").append(terminator).toString();
+    }
+
+    private static String valuesSource(List<String> columns) {
+        return "(VALUES (" + placeholders(columns.size()) + ")) AS s (" + String.join(", ", columns) + ")";
+    }
+
+    private static String assignments(List<String> columns, String valueFormat) {
+        return columns.stream().map(c -> c + " = " + String.format(valueFormat, c)).collect(Collectors.joining(", "));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> all = new ArrayList<>(first);
+        all.addAll(second);
+        return all;
+    }
+
+    /**
+     * Returns a copy of the configuration whose where clause is restricted by the given predicate.
+     */
+    private static JdbcPagingReaderConfig withPredicate(JdbcPagingReaderConfig config, String predicate) {
+        PagingSqlModel source = config.getClause();
+        PagingSqlModel clause = new PagingSqlModel();
+        clause.setSelectClause(source.getSelectClause());
+        clause.setFromClause(source.getFromClause());
+        clause.setGroupByClause(source.getGroupByClause());
+        clause.setSortClause(source.getSortClause());
+        clause.setWhereClause(StringUtils.hasText(source.getWhereClause())
+                ? "(" + SqlClauseUtils.removeKeyword("WHERE", source.getWhereClause()) + ") AND " + predicate
+                : predicate);
+
+        JdbcPagingReaderConfig copy = new JdbcPagingReaderConfig();
+        copy.setDatasource(config.getDatasource());
+        copy.setProviderType(config.getProviderType());
+        copy.setRowMapperClass(config.getRowMapperClass());
+        copy.setRowMapper(config.getRowMapper());
+        copy.setClause(clause);
+        copy.setParameters(config.getParameters());
+        copy.setStartAfter(config.getStartAfter());
+        return copy;
+    }
 }
@@ -0,0 +1,80 @@
+package com.marbl.declarative_batch.spring_declarative_batch.factory.component;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.PartitionConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.StepsConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.FlatFileReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.JdbcPagingReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.exception.TypeNotSupportedException;
+import com.marbl.declarative_batch.spring_declarative_batch.support.partition.ColumnRangePartitioner;
+import com.marbl.declarative_batch.spring_declarative_batch.support.partition.FileRangePartitioner;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.DatasourceUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.MapUtils;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.ResourceUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+@Slf4j
+public class PartitionerFactory {
+
+    private final ApplicationContext context;
+
+    public PartitionerFactory(ApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Creates the Partitioner splitting the input of a step's reader, based on its partition configuration.
+     */
+    public Partitioner createPartitioner(StepsConfig config) {
+        PartitionConfig partitionConfig = config.getPartition();
+        if (partitionConfig == null) {
+            log.error("Partitioner creation failed: step '{}' has no partition configuration", config.getName());
+            throw new IllegalArgumentException("Partition configuration must be provided for step: " + config.getName());
+        }
+
+        String readerType = config.getReader().getType();
+        log.debug("Starting partitioner creation for step '{}' with reader type '{}'", config.getName(), readerType);
+
+        // Normalize nested map structures (convert indexed maps into lists, etc.), as the reader builders do
+        Object normalizedMap = MapUtils.normalizeMapStructure(config.getReader().getConfig());
+
+        Partitioner partitioner = switch (readerType) {
+            case "JdbcPagingItemReader" -> {
+                if (!StringUtils.hasText(partitionConfig.getColumn())) {
+                    log.error("Partition column not provided for step '{}'", config.getName());
+                    throw new IllegalArgumentException("Partition 'column' must be provided for step: " + config.getName());
+                }
+                JdbcPagingReaderConfig readerConfig = MapUtils.mapToConfigDto(normalizedMap, JdbcPagingReaderConfig.class);
+                DataSource dataSource = DatasourceUtils.getDataSource(context, readerConfig.getDatasource());
+                yield new ColumnRangePartitioner(dataSource, readerConfig, partitionConfig);
+            }
+            case "FlatFileItemReader" -> {
+                FlatFileReaderConfig readerConfig = MapUtils.mapToConfigDto(normalizedMap, FlatFileReaderConfig.class);
+                Resource resource = ResourceUtils.resolveResource(readerConfig.getResource());
+                if (!resource.isFile()) {
+                    log.error("Resource '{}' of step '{}' is not a file", readerConfig.getResource(), config.getName());
+                    throw new IllegalArgumentException("Partitioned flat file resource must be a file: " + readerConfig.getResource());
+                }
+                try {
+                    yield new FileRangePartitioner(resource.getFile().toPath(), readerConfig.getLineToSkip());
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Cannot resolve file of resource: " + readerConfig.getResource(), e);
+                }
+            }
+            default -> {
+                log.error("Partitioning is not supported for reader type: '{}'", readerType);
+                throw new TypeNotSupportedException("Partitioning is not supported for reader type: " + readerType);
+            }
+        };
+
+        log.info("Partitioner '{}' created for step '{}' (gridSize={})",
+                partitioner.getClass().getSimpleName(), config.getName(), partitionConfig.getGridSize());
+        return partitioner;
+    }
+}
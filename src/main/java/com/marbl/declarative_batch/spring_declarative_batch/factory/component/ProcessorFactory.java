@@ -1,8 +1,14 @@
 package com.marbl.declarative_batch.spring_declarative_batch.factory.component;
 
+import com.marbl.declarative_batch.spring_declarative_batch.builder.processor.LookupProcessorBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.AsyncConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.exception.TypeNotSupportedException;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.executor.TaskExecutorFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.support.processor.BulkItemProcessor;
+import com.marbl.declarative_batch.spring_declarative_batch.support.processor.LookupItemProcessor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.support.PassThroughItemProcessor;
 import org.springframework.context.ApplicationContext;
@@ -10,14 +16,19 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.Map;
+import java.util.concurrent.Future;
 
 @Slf4j
 public class ProcessorFactory {
 
     private final ApplicationContext context;
 
+    private final TaskExecutorFactory taskExecutorFactory = new TaskExecutorFactory();
+
     private static final Map<String, Class<?>> PROCESSOR_TYPES = Map.of(
             "PassThroughItemProcessor", PassThroughItemProcessor.class,
+            "LookupItemProcessor", LookupItemProcessor.class,
+            "BulkItemProcessor", BulkItemProcessor.class,
             "ItemProcessor", ItemProcessor.class
     );
 
@@ -38,6 +49,7 @@ public class ProcessorFactory {
 
         ItemProcessor<I, O> processor = switch (config.getType()) {
             case "PassThroughItemProcessor" -> (ItemProcessor<I, O>) new PassThroughItemProcessor<I>();
+            case "LookupItemProcessor" -> (ItemProcessor<I, O>) LookupProcessorBuilder.build(config, context);
             // case "CustomProcessor" -> (ItemProcessor<I, O>) new CustomProcessor<I, O>();
             default -> {
                 log.error("Unknown processor type requested: {}", config.getType());
@@ -49,6 +61,27 @@ public class ProcessorFactory {
         return processor;
     }
 
+    /**
+     * Wrap a processor so that items are processed concurrently on a bounded executor.
+     * The returned processor emits {@link Future}s, which must be unwrapped by an async writer.
+     */
+    public <I, O> ItemProcessor<I, Future<O>> createAsyncProcessor(ComponentConfig config, ItemProcessor<I, O> delegate) throws Exception {
+        AsyncConfig async = config.getAsync();
+        if (async == null) {
+            log.error("Async processor creation failed: 'async' configuration missing for processor '{}'", config.getName());
+            throw new IllegalArgumentException("Async configuration must be provided for processor: " + config.getName());
+        }
+
+        AsyncItemProcessor<I, O> asyncProcessor = new AsyncItemProcessor<>();
+        asyncProcessor.setDelegate(delegate);
+        asyncProcessor.setTaskExecutor(taskExecutorFactory.create(config.getName(), async.getExecutorType(), async.getThreads()));
+        asyncProcessor.afterPropertiesSet();
+
+        log.info("Created async processor wrapping '{}' ({}) with {} threads",
+                config.getName(), delegate.getClass().getSimpleName(), async.getThreads());
+        return asyncProcessor;
+    }
+
     /**
      * Check if the provided bean matches the expected processor type.
      */
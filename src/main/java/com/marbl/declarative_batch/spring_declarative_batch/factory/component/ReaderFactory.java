@@ -3,10 +3,17 @@ package com.marbl.declarative_batch.spring_declarative_batch.factory.component;
 import com.marbl.declarative_batch.spring_declarative_batch.builder.reader.FlatFileReaderBuilder;
 import com.marbl.declarative_batch.spring_declarative_batch.builder.reader.JdbcCursorReaderBuilder;
 import com.marbl.declarative_batch.spring_declarative_batch.builder.reader.JdbcPagingReaderBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.builder.reader.MappedCsvReaderBuilder;
 import com.marbl.declarative_batch.spring_declarative_batch.exception.TypeNotSupportedException;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.PrefetchConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.partition.PartitionedItemReader;
+import com.marbl.declarative_batch.spring_declarative_batch.support.reader.MappedCsvItemReader;
+import com.marbl.declarative_batch.spring_declarative_batch.support.reader.PrefetchingItemReader;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.context.ApplicationContext;
@@ -14,6 +21,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.Map;
+import java.util.function.Function;
 
 @Slf4j
 public class ReaderFactory {
@@ -22,6 +30,7 @@ public class ReaderFactory {
 
     private static final Map<String, Class<?>> READER_TYPES = Map.of(
             "FlatFileItemReader", FlatFileItemReader.class,
+            "MappedCsvItemReader", MappedCsvItemReader.class,
             "JdbcPagingItemReader", org.springframework.batch.item.database.JdbcPagingItemReader.class,
             "JdbcCursorItemReader", JdbcCursorItemReader.class,
             "MongoCursorItemReader", org.springframework.batch.item.data.MongoCursorItemReader.class,
@@ -53,6 +62,10 @@ public class ReaderFactory {
                     log.debug("Using FlatFileReaderBuilder for component '{}'", config.getName());
                     yield FlatFileReaderBuilder.build(config,context);
                 }
+                case "MappedCsvItemReader" -> {
+                    log.debug("Using MappedCsvReaderBuilder for component '{}'", config.getName());
+                    yield MappedCsvReaderBuilder.build(config, context);
+                }
                 case "JdbcCursorItemReader" -> {
                     log.debug("Using JdbcCursorReaderBuilder for component '{}'", config.getName());
                     yield JdbcCursorReaderBuilder.build(config, context);
@@ -84,6 +97,51 @@ public class ReaderFactory {
         }
     }
 
+    /**
+     * Creates a reader shared by the worker executions of a partitioned step.
+     * Each worker gets its own delegate, restricted to the partition stored in its ExecutionContext.
+     */
+    public <I> ItemReader<I> createPartitionedReader(ComponentConfig config, int chunk) {
+        String readerType = config.getType();
+        log.debug("Starting partitioned reader creation: type='{}' for component '{}'", readerType, config.getName());
+
+        Function<ExecutionContext, ItemStreamReader<I>> workerReader = switch (readerType) {
+            case "JdbcPagingItemReader" -> partition -> JdbcPagingReaderBuilder.build(config, context, chunk, partition);
+            case "FlatFileItemReader" -> partition -> FlatFileReaderBuilder.build(config, context, partition);
+            default -> {
+                log.error("Partitioning is not supported for reader type: '{}'", readerType);
+                throw new TypeNotSupportedException("Partitioning is not supported for reader type: " + readerType);
+            }
+        };
+
+        ItemReader<I> reader = new PartitionedItemReader<I>(partition -> {
+            ItemStreamReader<I> delegate = workerReader.apply(partition);
+            return config.getPrefetch() != null
+                    ? createPrefetchingReader(config, delegate, chunk)
+                    : delegate;
+        });
+
+        log.info("Partitioned reader '{}' successfully created for type '{}'", config.getName(), readerType);
+        return reader;
+    }
+
+    /**
+     * Wraps a reader in a decorator that reads {@code prefetch.chunks} chunks ahead on a background thread.
+     */
+    public <I> PrefetchingItemReader<I> createPrefetchingReader(ComponentConfig config, ItemReader<I> delegate, int chunk) {
+        PrefetchConfig prefetch = config.getPrefetch();
+        if (prefetch == null) {
+            log.error("Prefetching reader creation failed: 'prefetch' configuration missing for reader '{}'", config.getName());
+            throw new IllegalArgumentException("Prefetch configuration must be provided for reader: " + config.getName());
+        }
+
+        int capacity = prefetch.getChunks() * chunk;
+        PrefetchingItemReader<I> reader = new PrefetchingItemReader<>(delegate, config.getName(), capacity);
+        log.info("Created prefetching reader for '{}' ({}) buffering {} items ({} chunks)",
+                config.getName(), delegate.getClass().getSimpleName(), capacity, prefetch.getChunks());
+        return reader;
+    }
+
     /**
      * Checks whether a bean is compatible with the specified reader type.
      */
@@ -1,16 +1,26 @@
 package com.marbl.declarative_batch.spring_declarative_batch.factory.component;
 
+import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.BulkLoadWriterBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.CompositeWriterBuilder;
 import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.FlatFileWriterBuilder;
 import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.JdbcBatchWriterBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.RoutingWriterBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.builder.writer.UpsertWriterBuilder;
 import com.marbl.declarative_batch.spring_declarative_batch.exception.TypeNotSupportedException;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.BulkLoadItemWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.ParallelCompositeItemWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.RoutingItemWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.support.writer.UpsertItemWriter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.Map;
+import java.util.concurrent.Future;
 
 @Slf4j
 public class WriterFactory {
@@ -20,6 +30,10 @@ public class WriterFactory {
     private static final Map<String, Class<?>> WRITER_TYPES = Map.of(
             "FlatFileItemWriter", org.springframework.batch.item.file.FlatFileItemWriter.class,
             "JdbcBatchItemWriter", org.springframework.batch.item.database.JdbcBatchItemWriter.class,
+            "BulkLoadItemWriter", BulkLoadItemWriter.class,
+            "UpsertItemWriter", UpsertItemWriter.class,
+            "ParallelCompositeItemWriter", ParallelCompositeItemWriter.class,
+            "RoutingItemWriter", RoutingItemWriter.class,
             "KafkaItemWriter", org.springframework.batch.item.kafka.KafkaItemWriter.class,
             "ItemWriter", ItemWriter.class
     );
@@ -53,6 +67,24 @@ public class WriterFactory {
                             config.getConfig().get("datasource"), config.getName());
                     yield JdbcBatchWriterBuilder.build(config, context);
                 }
+                case "BulkLoadItemWriter" -> {
+                    log.debug("Using BulkLoadWriterBuilder with datasource '{}' for '{}'",
+                            config.getConfig().get("datasource"), config.getName());
+                    yield BulkLoadWriterBuilder.build(config, context);
+                }
+                case "UpsertItemWriter" -> {
+                    log.debug("Using UpsertWriterBuilder with datasource '{}' for '{}'",
+                            config.getConfig().get("datasource"), config.getName());
+                    yield UpsertWriterBuilder.build(config, context);
+                }
+                case "ParallelCompositeItemWriter" -> {
+                    log.debug("Using CompositeWriterBuilder for '{}'", config.getName());
+                    yield CompositeWriterBuilder.build(config, this);
+                }
+                case "RoutingItemWriter" -> {
+                    log.debug("Using RoutingWriterBuilder for '{}'", config.getName());
+                    yield RoutingWriterBuilder.build(config, context, this);
+                }
                 case "KafkaItemWriter" -> {
                     log.debug("Directly creating KafkaItemWriter for '{}'", config.getName());
                     yield new org.springframework.batch.item.kafka.KafkaItemWriter<>();
@@ -76,6 +108,20 @@ public class WriterFactory {
         }
     }
 
+    /**
+     * Wraps a writer so that it unwraps the {@link Future}s emitted by an async processor.
+     * Items are written in chunk order, filtered (null) results are dropped.
+     */
+    public <O> ItemWriter<Future<O>> createAsyncWriter(ComponentConfig config, ItemWriter<O> delegate) throws Exception {
+        AsyncItemWriter<O> asyncWriter = new AsyncItemWriter<>();
+        asyncWriter.setDelegate(delegate);
+        asyncWriter.afterPropertiesSet();
+
+        log.info("Created async writer unwrapping results for writer '{}' ({})",
+                config.getName(), delegate.getClass().getSimpleName());
+        return asyncWriter;
+    }
+
     /**
      * Checks whether a bean is compatible with the specified writer type.
      */
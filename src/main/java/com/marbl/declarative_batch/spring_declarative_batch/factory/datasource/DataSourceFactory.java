@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Properties;
 
 @Slf4j
 public class DataSourceFactory {
@@ -24,7 +25,7 @@ public class DataSourceFactory {
         log.info("Creating datasource '{}' of type '{}'", name, cfg.getType());
 
         return switch (cfg.getType().toLowerCase()) {
-            case "postgres" -> buildHikari(name, cfg);
+            case "postgres", "mysql", "mariadb" -> buildHikari(name, cfg);
             case "oracle" -> buildOracle(name, cfg);
             case "h2" -> buildH2(name, cfg);
             default -> {
@@ -42,6 +43,7 @@ public class DataSourceFactory {
         ds.setPassword(cfg.getPassword());
         ds.setDriverClassName(cfg.getDriverClassName());
         ds.setPoolName(name);
+        cfg.getProperties().forEach(ds::addDataSourceProperty);
         log.info("HikariDataSource '{}' created successfully", name);
         return ds;
     }
@@ -55,6 +57,11 @@ public class DataSourceFactory {
             pds.setPassword(cfg.getPassword());
             pds.setConnectionFactoryClassName(cfg.getDriverClassName());
             pds.setConnectionPoolName(name);
+            if (!cfg.getProperties().isEmpty()) {
+                Properties properties = new Properties();
+                properties.putAll(cfg.getProperties());
+                pds.setConnectionProperties(properties);
+            }
             log.info("Oracle PoolDataSource '{}' created successfully", name);
             return pds;
         } catch (SQLException e) {
@@ -66,7 +73,10 @@ public class DataSourceFactory {
     private DataSource buildH2(String name, DataSourceConfig cfg) {
         log.debug("Initializing H2 DataSource '{}' with URL '{}'", name, cfg.getUrl());
         JdbcDataSource ds = new JdbcDataSource();
-        ds.setURL(cfg.getUrl());
+        // H2 takes its settings as URL parameters
+        StringBuilder url = new StringBuilder(cfg.getUrl());
+        cfg.getProperties().forEach((key, value) -> url.append(';').append(key).append('=').append(value));
+        ds.setURL(url.toString());
         ds.setUser(cfg.getUsername());
         ds.setPassword(cfg.getPassword());
         log.info("H2 DataSource '{}' created successfully", name);
@@ -0,0 +1,119 @@
+package com.marbl.declarative_batch.spring_declarative_batch.factory.executor;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ConcurrencyConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class TaskExecutorFactory {
+
+    // Executors created on the thread building a job, shut down by the job once it has run
+    private static final ThreadLocal<List<TaskExecutor>> TRACKED = new ThreadLocal<>();
+
+    /**
+     * Starts collecting the executors created on the current thread, until {@link #stopTracking()}.
+     */
+    public static void startTracking() {
+        TRACKED.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops collecting and returns the executors created on the current thread since {@link #startTracking()}.
+     */
+    public static List<TaskExecutor> stopTracking() {
+        List<TaskExecutor> executors = TRACKED.get();
+        TRACKED.remove();
+        return executors != null ? executors : List.of();
+    }
+
+    /**
+     * Shuts down executors: pools stop their threads, simple executors wait for their running tasks.
+     */
+    public static void shutdown(List<TaskExecutor> executors) {
+        for (TaskExecutor executor : executors) {
+            try {
+                if (executor instanceof DisposableBean disposable) {
+                    disposable.destroy();
+                } else if (executor instanceof AutoCloseable closeable) {
+                    closeable.close();
+                }
+            } catch (Exception e) {
+                log.warn("Failed to shut down task executor {}: {}", executor, e.getMessage());
+            }
+        }
+        log.debug("Shut down {} task executors", executors.size());
+    }
+
+    /**
+     * Creates the TaskExecutor backing a multi-threaded step.
+     * Threads are daemon so that an unfinished pool never blocks JVM shutdown.
+     */
+    public TaskExecutor create(String name, ConcurrencyConfig cfg) {
+        if (cfg == null) {
+            log.error("Cannot create task executor: configuration is null for '{}'", name);
+            throw new IllegalArgumentException("Concurrency configuration must be provided");
+        }
+        return create(name, cfg.getExecutorType(), cfg.getThreads());
+    }
+
+    /**
+     * Creates a TaskExecutor of the given type bounded to the given number of threads.
+     */
+    public TaskExecutor create(String name, ConcurrencyConfig.ExecutorType type, int threads) {
+        if (type == null) {
+            log.error("Cannot create task executor: executor type is null for '{}'", name);
+            throw new IllegalArgumentException("Executor type must be provided");
+        }
+
+        log.info("Creating task executor '{}' of type '{}' with {} threads", name, type, threads);
+
+        TaskExecutor executor = switch (type) {
+            case THREAD_POOL -> buildThreadPool(name, threads);
+            case SIMPLE -> buildSimple(name, threads, false);
+            case VIRTUAL -> buildSimple(name, threads, true);
+        };
+        List<TaskExecutor> tracked = TRACKED.get();
+        if (tracked != null) {
+            tracked.add(executor);
+        } else {
+            log.debug("Task executor '{}' is built outside a job: its owner must shut it down", name);
+        }
+        return executor;
+    }
+
+    private TaskExecutor buildThreadPool(String name, int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setDaemon(true);
+        executor.initialize();
+        log.debug("ThreadPoolTaskExecutor '{}' initialized with pool size {}", name, threads);
+        return executor;
+    }
+
+    private TaskExecutor buildSimple(String name, int threads, boolean virtualThreads) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+        executor.setConcurrencyLimit(threads);
+        executor.setDaemon(true);
+        if (virtualThreads) {
+            try {
+                executor.setVirtualThreads(true);
+            } catch (UnsupportedOperationException e) {
+                log.error("Virtual threads are not supported on Java {} for executor '{}'",
+                        Runtime.version().feature(), name);
+                throw new IllegalStateException("Virtual threads require Java 21 or later", e);
+            }
+        }
+        log.debug("SimpleAsyncTaskExecutor '{}' initialized (virtualThreads={}, concurrencyLimit={})",
+                name, virtualThreads, threads);
+        return executor;
+    }
+}
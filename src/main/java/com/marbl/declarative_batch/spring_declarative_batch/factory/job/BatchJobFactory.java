@@ -5,7 +5,11 @@ import com.marbl.declarative_batch.spring_declarative_batch.annotation.BulkBatch
 import com.marbl.declarative_batch.spring_declarative_batch.annotation.BulkBatchValidator;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.*;
 import com.marbl.declarative_batch.spring_declarative_batch.exception.BatchException;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.component.PartitionerFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.executor.TaskExecutorFactory;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.step.AbstractSteplet;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.step.StepFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.support.executor.ExecutorShutdownListener;
 import com.marbl.declarative_batch.spring_declarative_batch.support.incrementer.DatabaseRunIdIncrementer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,13 +23,16 @@ import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.job.flow.Flow;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -38,6 +45,9 @@ public class BatchJobFactory implements JobFactory {
     private final ApplicationContext context;
     private final RunIdIncrementer runIdIncrementer;
     private final PlatformTransactionManager transactionManager;
+    private final PartitionerFactory partitionerFactory;
+
+    private final TaskExecutorFactory taskExecutorFactory = new TaskExecutorFactory();
 
     @Override
     public String getJobName() {
@@ -53,17 +63,31 @@ public class BatchJobFactory implements JobFactory {
 
         log.info("Creating job '{}'", jobConfig.getName());
 
-        // --- Create steps dynamically from steplets ---
-        Map<String, Step> stepsMap = createStepsFromSteplets(jobConfig);
-
-        // --- Build dynamic flow (supports conditional and next transitions) ---
-        Flow mainFlow = buildDynamicFlow(jobConfig, stepsMap);
+        // --- Collect the task executors built with the steps, shut down once the job has run ---
+        TaskExecutorFactory.startTracking();
+        Map<String, Step> stepsMap;
+        Flow mainFlow;
+        try {
+            // --- Create steps dynamically from steplets ---
+            stepsMap = createStepsFromSteplets(jobConfig);
+
+            // --- Build dynamic flow (supports conditional and next transitions) ---
+            mainFlow = buildDynamicFlow(jobConfig, stepsMap);
+        } catch (RuntimeException e) {
+            TaskExecutorFactory.shutdown(TaskExecutorFactory.stopTracking());
+            throw e;
+        }
+        List<TaskExecutor> executors = TaskExecutorFactory.stopTracking();
 
         // --- Initialize JobBuilder ---
         JobBuilder jobBuilder = new JobBuilder(jobConfig.getName(), jobRepository);
 
         // --- Attach Job Listener if configured ---
         attachJobListener(jobBuilder, jobConfig);
+        if (!executors.isEmpty()) {
+            jobBuilder.listener(new ExecutorShutdownListener(executors));
+            log.info("Job '{}' shuts down its {} task executors once it has run", jobConfig.getName(), executors.size());
+        }
 
         // --- Attach Job Parameters Validator if configured ---
         attachJobValidator(jobBuilder, jobConfig);
@@ -105,13 +129,24 @@ public class BatchJobFactory implements JobFactory {
                     log.info("Tasklet step '{}' created with tasklet bean '{}'",
                             stepConfig.getName(), taskletBean.getClass().getSimpleName());
                 } else {
-                    // --- Regular STEP (via steplet) ---
-                    AbstractSteplet<?, ?> steplet = resolveStepletBean(stepConfig);
-                    steplet.setConfig(stepConfig);
-                    step = steplet.buildStep();
+                    // --- Regular STEP (via steplet, or from YAML alone when steplets are optional) ---
+                    AbstractSteplet<?, ?> steplet = resolveStepletBean(stepConfig, jobConfig.isRequireSteplets());
+                    if (steplet != null) {
+                        steplet.setConfig(stepConfig);
+                        step = steplet.buildStep();
+
+                        log.info("Chunk-oriented step '{}' created via steplet '{}'",
+                                stepConfig.getName(), steplet.getClass().getSimpleName());
+                    } else {
+                        step = context.getBean(StepFactory.class).createStep(stepConfig, null, null, null);
+
+                        log.info("Chunk-oriented step '{}' created from its YAML components", stepConfig.getName());
+                    }
 
-                    log.info("Chunk-oriented step '{}' created via steplet '{}'",
-                            stepConfig.getName(), steplet.getClass().getSimpleName());
+                    // --- Wrap worker step in a partitioned manager step ---
+                    if (stepConfig.getPartition() != null) {
+                        step = buildPartitionedStep(stepConfig, step);
+                    }
                 }
 
                 stepsMap.put(stepConfig.getName(), step);
@@ -206,6 +241,26 @@ public class BatchJobFactory implements JobFactory {
         return flowBuilder.end();
     }
 
+    private Step buildPartitionedStep(StepsConfig stepConfig, Step workerStep) throws Exception {
+        PartitionConfig partition = stepConfig.getPartition();
+
+        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        partitionHandler.setStep(workerStep);
+        partitionHandler.setGridSize(partition.getGridSize());
+        partitionHandler.setTaskExecutor(taskExecutorFactory.create(
+                stepConfig.getName(), partition.getExecutorType(), partition.getGridSize()));
+        partitionHandler.afterPropertiesSet();
+
+        Step managerStep = new StepBuilder(stepConfig.getName(), jobRepository)
+                .partitioner(workerStep.getName(), partitionerFactory.createPartitioner(stepConfig))
+                .partitionHandler(partitionHandler)
+                .build();
+
+        log.info("Partitioned step '{}' created with worker step '{}' (gridSize={}, column={})",
+                stepConfig.getName(), workerStep.getName(), partition.getGridSize(), partition.getColumn());
+        return managerStep;
+    }
+
     private void attachJobListener(JobBuilder jobBuilder, BatchJobConfig jobConfig) {
         ListenerConfig jobListenerConfig = jobConfig.getListener();
         if (jobListenerConfig == null || jobListenerConfig.getName() == null) {
@@ -250,7 +305,7 @@ public class BatchJobFactory implements JobFactory {
                 validatorConfig.getName(), jobConfig.getName());
     }
 
-    private AbstractSteplet<?, ?> resolveStepletBean(StepsConfig config) {
+    private AbstractSteplet<?, ?> resolveStepletBean(StepsConfig config, boolean required) {
         Map<String, Object> beans = context.getBeansWithAnnotation(BulkBatchSteplet.class);
         for (Object bean : beans.values()) {
             BulkBatchSteplet ann = bean.getClass().getAnnotation(BulkBatchSteplet.class);
@@ -263,6 +318,10 @@ public class BatchJobFactory implements JobFactory {
                 return (AbstractSteplet<?, ?>) bean;
             }
         }
+        if (!required) {
+            log.debug("No steplet bean found for step '{}', building it from YAML", config.getName());
+            return null;
+        }
         log.error("No steplet bean found for step name '{}'", config.getName());
         throw new IllegalArgumentException("No steplet bean found for step name: " + config.getName());
     }
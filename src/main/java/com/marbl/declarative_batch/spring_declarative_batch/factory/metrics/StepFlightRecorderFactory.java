@@ -0,0 +1,27 @@
+package com.marbl.declarative_batch.spring_declarative_batch.factory.metrics;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.FlightRecorderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.StepsConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.jfr.StepFlightRecorderListener;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class StepFlightRecorderFactory {
+
+    private final FlightRecorderConfig config;
+    private final String jobName;
+
+    public StepFlightRecorderFactory(FlightRecorderConfig config, String jobName) {
+        this.config = config;
+        this.jobName = jobName;
+    }
+
+    /**
+     * Creates the JFR listener of a chunk step.
+     */
+    public StepFlightRecorderListener create(StepsConfig stepConfig) {
+        log.info("Emitting JFR events for step '{}' (byte estimates: {})",
+                stepConfig.getName(), config.isByteEstimates());
+        return new StepFlightRecorderListener(jobName, stepConfig.getName(), config.isByteEstimates());
+    }
+}
@@ -0,0 +1,64 @@
+package com.marbl.declarative_batch.spring_declarative_batch.factory.metrics;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ComponentConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.MetricsConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.StepsConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.support.metrics.StepMetricsListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class StepMetricsFactory {
+
+    private final MeterRegistry registry;
+    private final MetricsConfig config;
+    private final String jobName;
+
+    // Jobs are rebuilt for each run: the throughput gauge is registered once per tags and fed by every
+    // listener built for them, since Micrometer keeps the first gauge and only weakly references its value
+    private final Map<Tags, AtomicLong> throughputs = new ConcurrentHashMap<>();
+
+    public StepMetricsFactory(MeterRegistry registry, MetricsConfig config, String jobName) {
+        this.registry = registry;
+        this.config = config;
+        this.jobName = jobName;
+    }
+
+    /**
+     * Creates the metrics listener of a chunk step, tagged with the job, step and component names.
+     */
+    public StepMetricsListener create(StepsConfig stepConfig) {
+        Tags tags = Tags.of(
+                "job", jobName,
+                "step", stepConfig.getName(),
+                "reader", componentName(stepConfig.getReader()),
+                "processor", componentName(stepConfig.getProcessor()),
+                "writer", componentName(stepConfig.getWriter()));
+
+        log.info("Publishing metrics '{}.*' for step '{}' (histograms: {})",
+                config.getPrefix(), stepConfig.getName(), config.isHistograms());
+        return new StepMetricsListener(registry, config.getPrefix(), tags, config.isHistograms(),
+                throughputs.computeIfAbsent(tags, this::registerThroughput));
+    }
+
+    private AtomicLong registerThroughput(Tags tags) {
+        AtomicLong throughput = new AtomicLong(); // items per second, as double bits
+        Gauge.builder(config.getPrefix() + ".throughput", throughput, value -> Double.longBitsToDouble(value.get()))
+                .description("Items written per second by the last chunk")
+                .baseUnit("items/s")
+                .tags(tags)
+                .strongReference(true)
+                .register(registry);
+        return throughput;
+    }
+
+    private static String componentName(ComponentConfig component) {
+        return component != null && component.getName() != null ? component.getName() : "none";
+    }
+}
@@ -0,0 +1,96 @@
+package com.marbl.declarative_batch.spring_declarative_batch.factory.retry;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.BackoffConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.RetryConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.step.item.ForceRollbackForWriteSkipException;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.backoff.ExponentialRandomBackOffPolicy;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.policy.ExceptionClassifierRetryPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+public class RetryPolicyFactory {
+
+    /**
+     * Creates the policy applying the per-exception limits of a step, {@code null} when there are none.
+     *
+     * <p>The step builder combines it with its own policy over all the retryable exceptions, whose limit must
+     * therefore be the highest one ({@link #maxLimit(RetryConfig)}). The exceptions without their own limit,
+     * and the internal rollback used to locate skipped items on write, share the default {@code limit}.</p>
+     */
+    public RetryPolicy createRetryPolicy(RetryConfig cfg) {
+        List<RetryConfig.ExceptionLimit> exceptionLimits = cfg.getExceptionLimits();
+        if (exceptionLimits == null || exceptionLimits.isEmpty()) {
+            return null;
+        }
+
+        Map<Class<? extends Throwable>, Boolean> defaultExceptions = new HashMap<>();
+        if (cfg.getExceptions() != null) {
+            cfg.getExceptions().forEach(ex -> defaultExceptions.put(ex, true));
+        }
+        defaultExceptions.put(ForceRollbackForWriteSkipException.class, true);
+        SimpleRetryPolicy defaultPolicy = new SimpleRetryPolicy(cfg.getLimit(), defaultExceptions);
+
+        Map<Class<? extends Throwable>, RetryPolicy> policies = new HashMap<>();
+        defaultExceptions.keySet().forEach(ex -> policies.put(ex, defaultPolicy));
+        for (RetryConfig.ExceptionLimit exceptionLimit : exceptionLimits) {
+            policies.put(exceptionLimit.getException(),
+                    new SimpleRetryPolicy(exceptionLimit.getLimit(), Map.of(exceptionLimit.getException(), true)));
+        }
+
+        ExceptionClassifierRetryPolicy retryPolicy = new ExceptionClassifierRetryPolicy();
+        retryPolicy.setPolicyMap(policies);
+        return retryPolicy;
+    }
+
+    /**
+     * Returns the highest of the default and per-exception limits.
+     */
+    public int maxLimit(RetryConfig cfg) {
+        int max = cfg.getLimit();
+        if (cfg.getExceptionLimits() != null) {
+            for (RetryConfig.ExceptionLimit exceptionLimit : cfg.getExceptionLimits()) {
+                max = Math.max(max, exceptionLimit.getLimit());
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Creates the back-off policy waiting between two attempts.
+     */
+    public BackOffPolicy createBackOffPolicy(BackoffConfig cfg, Sleeper sleeper) {
+        if (cfg == null || cfg.getType() == null) {
+            log.error("Cannot create back-off policy: configuration or type is null");
+            throw new IllegalArgumentException("Back-off type must be provided");
+        }
+
+        return switch (cfg.getType()) {
+            case FIXED -> {
+                FixedBackOffPolicy policy = new FixedBackOffPolicy();
+                policy.setBackOffPeriod(cfg.getInitialMillis());
+                policy.setSleeper(sleeper);
+                yield policy;
+            }
+            case EXPONENTIAL -> exponential(new ExponentialBackOffPolicy(), cfg, sleeper);
+            case EXPONENTIAL_JITTER -> exponential(new ExponentialRandomBackOffPolicy(), cfg, sleeper);
+        };
+    }
+
+    private static BackOffPolicy exponential(ExponentialBackOffPolicy policy, BackoffConfig cfg, Sleeper sleeper) {
+        policy.setInitialInterval(cfg.getInitialMillis());
+        policy.setMultiplier(cfg.getMultiplier());
+        policy.setMaxInterval(cfg.getMaxMillis());
+        policy.setSleeper(sleeper);
+        return policy;
+    }
+}
@@ -3,14 +3,30 @@ package com.marbl.declarative_batch.spring_declarative_batch.factory.step;
 import com.marbl.declarative_batch.spring_declarative_batch.annotation.BulkBatchProcessor;
 import com.marbl.declarative_batch.spring_declarative_batch.annotation.BulkBatchReader;
 import com.marbl.declarative_batch.spring_declarative_batch.annotation.BulkBatchWriter;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ConcurrencyConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.ListenerConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.RetryConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.SkipConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.StepsConfig;
 import com.marbl.declarative_batch.spring_declarative_batch.exception.InvalidBeanException;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.component.ListenerFactory;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.component.ProcessorFactory;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.component.ReaderFactory;
 import com.marbl.declarative_batch.spring_declarative_batch.factory.component.WriterFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.executor.TaskExecutorFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.metrics.StepFlightRecorderFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.metrics.StepMetricsFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.factory.retry.RetryPolicyFactory;
+import com.marbl.declarative_batch.spring_declarative_batch.support.chunk.AdaptiveChunkSizePolicy;
+import com.marbl.declarative_batch.spring_declarative_batch.support.chunk.BisectingFaultTolerantStepBuilder;
+import com.marbl.declarative_batch.spring_declarative_batch.support.jfr.StepFlightRecorderListener;
 import com.marbl.declarative_batch.spring_declarative_batch.support.log.LoggingStepListener;
+import com.marbl.declarative_batch.spring_declarative_batch.support.metrics.StepMetricsListener;
+import com.marbl.declarative_batch.spring_declarative_batch.support.processor.BulkItemProcessor;
+import com.marbl.declarative_batch.spring_declarative_batch.support.processor.BulkItemProcessorAdapter;
+import com.marbl.declarative_batch.spring_declarative_batch.support.reader.MappedCsvItemReader;
+import com.marbl.declarative_batch.spring_declarative_batch.support.reader.PrefetchingItemReader;
+import com.marbl.declarative_batch.spring_declarative_batch.support.retry.TransactionAwareSleeper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
@@ -20,7 +36,13 @@ import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.AbstractPagingItemReader;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.batch.item.support.SynchronizedItemStreamReader;
+import org.springframework.retry.RetryPolicy;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -36,6 +58,11 @@ public class StepFactory {
     private final ProcessorFactory processorFactory;
     private final WriterFactory writerFactory;
     private final ListenerFactory listenerFactory;
+    private final StepMetricsFactory stepMetricsFactory; // null when metrics are disabled
+    private final StepFlightRecorderFactory stepFlightRecorderFactory; // null when JFR events are disabled
+
+    private final TaskExecutorFactory taskExecutorFactory = new TaskExecutorFactory();
+    private final RetryPolicyFactory retryPolicyFactory = new RetryPolicyFactory();
 
     /**
      * Build a typed Step from a YAML config or AbstractSteplet.
@@ -54,9 +81,24 @@ public class StepFactory {
         validateWriter(writer, config);
 
         // --- Build or reuse typed components ---
-        ItemReader<I> finalReader = reader != null
-                ? reader
-                : readerFactory.createReader(config.getReader(), config.getChunk());
+        ItemReader<I> finalReader;
+        if (config.getPartition() != null) {
+            if (reader != null) {
+                throw new InvalidBeanException(
+                        "Partitioned step '" + config.getName() + "' must not provide a reader from Steplet: it is built from YAML"
+                );
+            }
+            finalReader = readerFactory.createPartitionedReader(config.getReader(), config.resolvePageSize());
+        } else {
+            finalReader = reader != null
+                    ? reader
+                    : readerFactory.createReader(config.getReader(), config.resolvePageSize());
+
+            // --- Read ahead on a background thread if configured ---
+            if (config.getReader() != null && config.getReader().getPrefetch() != null) {
+                finalReader = readerFactory.createPrefetchingReader(config.getReader(), finalReader, config.resolvePageSize());
+            }
+        }
 
         ItemProcessor<I, O> finalProcessor = processor != null
                 ? processor
@@ -66,14 +108,88 @@ public class StepFactory {
                 ? writer
                 : writerFactory.createWriter(config.getWriter());
 
-        // --- Build chunk step ---
-        StepBuilder stepBuilder = new StepBuilder(config.getName(), jobRepository);
-        SimpleStepBuilder<I, O> chunkStep = stepBuilder
-                .<I, O>chunk(config.getChunk(), transactionManager)
+        // --- Hand whole chunks to bulk processors (per item when processing is async) ---
+        BulkItemProcessor<I, O> bulkProcessor = null;
+        if (finalProcessor instanceof BulkItemProcessor<I, O> bulk && config.getProcessor().getAsync() == null) {
+            bulkProcessor = bulk;
+            finalProcessor = new BulkItemProcessorAdapter<>(bulk);
+            log.info("Step '{}' processes whole chunks with bulk processor '{}'",
+                    config.getName(), bulk.getClass().getSimpleName());
+        }
+
+        // --- Fan out processing across threads if configured ---
+        ItemProcessor<I, O> syncProcessor = finalProcessor;
+        ItemWriter<O> syncWriter = finalWriter;
+        if (config.getProcessor().getAsync() != null) {
+            finalProcessor = (ItemProcessor) processorFactory.createAsyncProcessor(config.getProcessor(), finalProcessor);
+            finalWriter = (ItemWriter) writerFactory.createAsyncWriter(config.getWriter(), finalWriter);
+            log.info("Step '{}' processes items asynchronously with {} threads",
+                    config.getName(), config.getProcessor().getAsync().getThreads());
+        }
+
+        // --- Make reader safe for concurrent chunks ---
+        if (config.getConcurrency() != null) {
+            disableSaveState(finalReader, config);
+            finalReader = synchronizeReader(finalReader, config);
+        }
+
+        // --- Build chunk step, sized by a fixed chunk or by commit latency ---
+        StepBuilder stepBuilder = new StepBuilder(config.resolveChunkStepName(), jobRepository);
+        AdaptiveChunkSizePolicy adaptivePolicy = config.getAdaptiveChunk() != null
+                ? new AdaptiveChunkSizePolicy(config.getName(), config.getAdaptiveChunk())
+                : null;
+        SimpleStepBuilder<I, O> chunkStep = (adaptivePolicy != null
+                ? stepBuilder.<I, O>chunk(adaptivePolicy, transactionManager)
+                : stepBuilder.<I, O>chunk(config.getChunk(), transactionManager))
                 .reader(finalReader)
                 .processor(finalProcessor)
                 .writer(finalWriter);
 
+        // --- Run chunks concurrently if configured ---
+        if (config.getConcurrency() != null) {
+            configureConcurrency(chunkStep, config);
+        }
+
+        // --- Keep listener callbacks of components hidden behind async wrappers ---
+        if (finalProcessor != syncProcessor) {
+            registerHiddenListener(chunkStep, syncProcessor);
+            registerHiddenListener(chunkStep, syncWriter);
+        }
+        if (bulkProcessor != null) {
+            registerHiddenListener(chunkStep, bulkProcessor);
+        }
+
+        // --- Let the adaptive policy observe write timings ---
+        if (adaptivePolicy != null) {
+            chunkStep.listener((StepExecutionListener) adaptivePolicy);
+            chunkStep.listener((ChunkListener) adaptivePolicy);
+            chunkStep.listener((ItemWriteListener) adaptivePolicy);
+            log.info("Step '{}' uses adaptive chunk size: min={}, max={}, targetCommitMillis={}",
+                    config.getName(),
+                    config.getAdaptiveChunk().getMin(),
+                    config.getAdaptiveChunk().getMax(),
+                    config.getAdaptiveChunk().getTargetCommitMillis());
+        }
+
+        // --- Publish Micrometer metrics if enabled ---
+        StepMetricsListener metricsListener = null;
+        if (stepMetricsFactory != null) {
+            metricsListener = stepMetricsFactory.create(config);
+            chunkStep.listener((ChunkListener) metricsListener);
+            chunkStep.listener((ItemReadListener) metricsListener);
+            chunkStep.listener((ItemProcessListener) metricsListener);
+            chunkStep.listener((ItemWriteListener) metricsListener);
+        }
+
+        // --- Emit JFR events if enabled ---
+        if (stepFlightRecorderFactory != null) {
+            StepFlightRecorderListener jfrListener = stepFlightRecorderFactory.create(config);
+            chunkStep.listener((ChunkListener) jfrListener);
+            chunkStep.listener((ItemReadListener) jfrListener);
+            chunkStep.listener((ItemProcessListener) jfrListener);
+            chunkStep.listener((ItemWriteListener) jfrListener);
+        }
+
         // --- Attach common logging listener ---
         chunkStep.listener((StepExecutionListener) loggingStepListener);
         chunkStep.listener((ChunkListener) loggingStepListener);
@@ -83,7 +199,14 @@ public class StepFactory {
 
         // --- Configure fault tolerance if defined ---
         if (config.getRetry() != null || config.getSkip() != null || config.getTransaction() != null) {
-            chunkStep = configureFaultTolerance(chunkStep, config);
+            FaultTolerantStepBuilder<I, O> faultStep = configureFaultTolerance(chunkStep, config, metricsListener);
+            if (adaptivePolicy != null) {
+                faultStep.listener((SkipListener) adaptivePolicy);
+            }
+            if (metricsListener != null) {
+                faultStep.listener((SkipListener) metricsListener);
+            }
+            chunkStep = faultStep;
         }
 
         Step step = chunkStep.build();
@@ -143,6 +266,80 @@ public class StepFactory {
         log.debug("Validated writer '{}' for step '{}'", config.getWriter().getName(), config.getName());
     }
 
+    /**
+     * Stops a reader shared by concurrent chunks from saving its position: its read count or last key also
+     * covers items of chunks not committed yet, which a restart would skip. A restarted step therefore reads
+     * its input again from the beginning, as Spring Batch recommends for multi-threaded steps.
+     *
+     * @throws IllegalArgumentException if the reader is an {@link ItemStream} whose saved state cannot be disabled
+     */
+    private <I> void disableSaveState(ItemReader<I> reader, StepsConfig config) {
+        ItemReader<?> target = reader instanceof PrefetchingItemReader<I> prefetching ? prefetching.getDelegate() : reader;
+        if (target instanceof AbstractItemCountingItemStreamItemReader<?> counting) {
+            counting.setSaveState(false);
+        } else if (target instanceof MappedCsvItemReader<?> mapped) {
+            mapped.setSaveState(false);
+        } else if (target instanceof ItemStream) {
+            log.error("Cannot disable saved state of reader '{}' ({}) for multi-threaded step '{}'",
+                    config.getReader().getName(), target.getClass().getSimpleName(), config.getName());
+            throw new IllegalArgumentException("Reader '" + config.getReader().getName() + "' ("
+                    + target.getClass().getSimpleName() + ") of multi-threaded step '" + config.getName()
+                    + "' saves a state that cannot be disabled, which would not be reliable on restart");
+        } else {
+            return;
+        }
+        log.info("Disabled saved state of reader '{}' for multi-threaded step '{}'", config.getReader().getName(), config.getName());
+    }
+
+    private <I> ItemReader<I> synchronizeReader(ItemReader<I> reader, StepsConfig config) throws Exception {
+        // Paging readers already synchronize page fetches; everything else counting items is not thread-safe
+        if (reader instanceof SynchronizedItemStreamReader<I> || reader instanceof AbstractPagingItemReader<I>) {
+            log.debug("Reader '{}' for step '{}' is already thread-safe", config.getReader().getName(), config.getName());
+            return reader;
+        }
+
+        if (!(reader instanceof ItemStreamReader<I> streamReader)) {
+            log.warn("Reader '{}' for multi-threaded step '{}' is not an ItemStreamReader: it must be thread-safe",
+                    config.getReader().getName(), config.getName());
+            return reader;
+        }
+
+        SynchronizedItemStreamReader<I> synchronizedReader = new SynchronizedItemStreamReader<>();
+        synchronizedReader.setDelegate(streamReader);
+        synchronizedReader.afterPropertiesSet();
+        log.info("Wrapped reader '{}' ({}) in SynchronizedItemStreamReader for step '{}'",
+                config.getReader().getName(), reader.getClass().getSimpleName(), config.getName());
+        return synchronizedReader;
+    }
+
+    @SuppressWarnings("removal")
+    private <I, O> void configureConcurrency(SimpleStepBuilder<I, O> chunkStep, StepsConfig config) {
+        ConcurrencyConfig concurrency = config.getConcurrency();
+        chunkStep.taskExecutor(taskExecutorFactory.create(config.getName(), concurrency));
+        // The default throttle limit (4) would cap any larger pool, so it always follows the configuration
+        chunkStep.throttleLimit(concurrency.resolveThrottleLimit());
+        log.info("Configured concurrency for step '{}': executorType={}, threads={}, throttleLimit={}, restarts from the beginning",
+                config.getName(),
+                concurrency.getExecutorType(),
+                concurrency.getThreads(),
+                concurrency.resolveThrottleLimit());
+    }
+
+    /**
+     * Registers the listener callbacks of a component the step builder cannot see, both annotated
+     * methods and the listener interfaces it implements.
+     */
+    private <I, O> void registerHiddenListener(SimpleStepBuilder<I, O> chunkStep, Object component) {
+        chunkStep.listener(component);
+        if (component instanceof StepExecutionListener listener) {
+            chunkStep.listener(listener);
+        }
+        if (component instanceof ChunkListener listener) {
+            chunkStep.listener(listener);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
     private <I, O> void attachStepListeners(SimpleStepBuilder<I, O> chunkStep, StepsConfig config) {
         if (config.getListeners() == null) return;
 
@@ -155,16 +352,16 @@ public class StepFactory {
                     chunkStep.listener(sel);
                     log.info("Attached StepExecutionListener '{}' to step '{}'",
                             listenerConfig.getName(), config.getName());
-                } else if (listener instanceof ItemReadListener irl) {
-                    chunkStep.listener(irl);
+                } else if (listener instanceof ItemReadListener<?> irl) {
+                    chunkStep.listener((ItemReadListener<? super I>) irl);
                     log.info("Attached ItemReadListener '{}' to step '{}'",
                             listenerConfig.getName(), config.getName());
-                } else if (listener instanceof ItemWriteListener iwl) {
-                    chunkStep.listener(iwl);
+                } else if (listener instanceof ItemWriteListener<?> iwl) {
+                    chunkStep.listener((ItemWriteListener<? super O>) iwl);
                     log.info("Attached ItemWriteListener '{}' to step '{}'",
                             listenerConfig.getName(), config.getName());
-                } else if (listener instanceof ItemProcessListener ipl) {
-                    chunkStep.listener(ipl);
+                } else if (listener instanceof ItemProcessListener<?, ?> ipl) {
+                    chunkStep.listener((ItemProcessListener<? super I, ? super O>) ipl);
                     log.info("Attached ItemProcessListener '{}' to step '{}'",
                             listenerConfig.getName(), config.getName());
                 } else {
@@ -177,19 +374,37 @@ public class StepFactory {
         }
     }
 
-    private <I, O> SimpleStepBuilder<I, O> configureFaultTolerance(SimpleStepBuilder<I, O> chunkStep, StepsConfig config) {
-        FaultTolerantStepBuilder<I, O> faultStep = chunkStep.faultTolerant();
+    private <I, O> FaultTolerantStepBuilder<I, O> configureFaultTolerance(SimpleStepBuilder<I, O> chunkStep, StepsConfig config,
+                                                                          StepMetricsListener metricsListener) {
+        FaultTolerantStepBuilder<I, O> faultStep = config.getSkip() != null
+                && config.getSkip().getStrategy() == SkipConfig.SkipStrategy.BISECT
+                ? new BisectingFaultTolerantStepBuilder<>(chunkStep)
+                : chunkStep.faultTolerant();
 
         // Retry
         if (config.getRetry() != null) {
-            faultStep.retryLimit(config.getRetry().getLimit());
-            if (config.getRetry().getExceptions() != null) {
-                for (Class<? extends Throwable> ex : config.getRetry().getExceptions()) {
+            RetryConfig retry = config.getRetry();
+            // The builder's own policy covers every retryable exception, the per-exception limits narrow it
+            faultStep.retryLimit(retryPolicyFactory.maxLimit(retry));
+            if (retry.getExceptions() != null) {
+                for (Class<? extends Throwable> ex : retry.getExceptions()) {
                     faultStep.retry(ex);
                 }
             }
-            log.info("Configured retry for step '{}': limit={}, exceptions={}",
-                    config.getName(), config.getRetry().getLimit(), config.getRetry().getExceptions());
+            RetryPolicy retryPolicy = retryPolicyFactory.createRetryPolicy(retry);
+            if (retryPolicy != null) {
+                for (RetryConfig.ExceptionLimit exceptionLimit : retry.getExceptionLimits()) {
+                    faultStep.retry(exceptionLimit.getException());
+                }
+                faultStep.retryPolicy(retryPolicy);
+            }
+            if (retry.getBackoff() != null) {
+                TransactionAwareSleeper sleeper = new TransactionAwareSleeper(
+                        metricsListener != null ? metricsListener.getBackOffTimer() : null);
+                faultStep.backOffPolicy(retryPolicyFactory.createBackOffPolicy(retry.getBackoff(), sleeper));
+            }
+            log.info("Configured retry for step '{}': limit={}, exceptions={}, exceptionLimits={}, backoff={}",
+                    config.getName(), retry.getLimit(), retry.getExceptions(), retry.getExceptionLimits(), retry.getBackoff());
         }
 
         // Skip
@@ -205,11 +420,12 @@ public class StepFactory {
                     faultStep.noSkip(ex);
                 }
             }
-            log.info("Configured skip for step '{}': limit={}, exceptions={}, noSkipExceptions={}",
+            log.info("Configured skip for step '{}': limit={}, exceptions={}, noSkipExceptions={}, strategy={}",
                     config.getName(),
                     config.getSkip().getLimit(),
                     config.getSkip().getExceptionsToSkip(),
-                    config.getSkip().getExceptionsNoSkip());
+                    config.getSkip().getExceptionsNoSkip(),
+                    config.getSkip().getStrategy());
         }
 
         // Transaction rollback
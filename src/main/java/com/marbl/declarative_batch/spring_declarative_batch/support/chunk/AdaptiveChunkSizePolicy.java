@@ -0,0 +1,151 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.chunk;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.AdaptiveChunkConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+
+/**
+ * Chunk completion policy whose size follows the measured write + commit latency.
+ *
+ * <p>The time between {@code beforeWrite} and {@code afterChunk} (which runs after the commit) gives a
+ * per-item cost; the next chunk moves halfway toward the size that would hit {@code targetCommitMillis},
+ * never more than doubling or halving at once. A rollback or a skip drops the size back to {@code min},
+ * so that the item-by-item scan of a failed chunk stays cheap. The current size is stored in the step
+ * ExecutionContext under {@link #CHUNK_SIZE_KEY} and restored on restart.</p>
+ *
+ * <p>The policy is also registered as a listener on the step it completes.</p>
+ */
+@Slf4j
+public class AdaptiveChunkSizePolicy extends CompletionPolicySupport
+        implements StepExecutionListener, ChunkListener, ItemWriteListener<Object>, SkipListener<Object, Object> {
+
+    public static final String CHUNK_SIZE_KEY = "adaptiveChunk.size";
+
+    private final String stepName;
+    private final int min;
+    private final int max;
+    private final long targetNanos;
+
+    private volatile int size;
+
+    private final ThreadLocal<long[]> writeTiming = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> shrink = new ThreadLocal<>();
+
+    public AdaptiveChunkSizePolicy(String stepName, AdaptiveChunkConfig config) {
+        this.stepName = stepName;
+        this.min = config.getMin();
+        this.max = config.getMax();
+        this.targetNanos = config.getTargetCommitMillis() * 1_000_000L;
+        this.size = config.resolveInitial();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    // --- CompletionPolicy ---
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return ((RepeatContextSupport) context).getStartedCount() >= size;
+    }
+
+    // --- StepExecutionListener ---
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        if (stepExecution.getExecutionContext().containsKey(CHUNK_SIZE_KEY)) {
+            size = clamp(stepExecution.getExecutionContext().getInt(CHUNK_SIZE_KEY));
+            log.info("Step '{}' resumes adaptive chunk size at {}", stepName, size);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        stepExecution.getExecutionContext().putInt(CHUNK_SIZE_KEY, size);
+        return null;
+    }
+
+    // --- ItemWriteListener ---
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        writeTiming.set(new long[]{System.nanoTime(), items.size()});
+    }
+
+    // --- SkipListener ---
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        shrink.set(Boolean.TRUE);
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        shrink.set(Boolean.TRUE);
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        shrink.set(Boolean.TRUE);
+    }
+
+    // --- ChunkListener ---
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        long[] timing = writeTiming.get();
+        boolean skipped = Boolean.TRUE.equals(shrink.get());
+        writeTiming.remove();
+        shrink.remove();
+
+        int previous = size;
+        if (skipped) {
+            size = min;
+        } else if (timing != null && timing[1] > 0) {
+            size = resize(previous, System.nanoTime() - timing[0], (int) timing[1]);
+        }
+
+        context.getStepContext().getStepExecution().getExecutionContext().putInt(CHUNK_SIZE_KEY, size);
+        if (size != previous) {
+            log.debug("Step '{}' chunk size {} -> {}{}", stepName, previous, size, skipped ? " (skips)" : "");
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        writeTiming.remove();
+        shrink.remove();
+        if (size != min) {
+            log.debug("Step '{}' chunk size {} -> {} after rollback", stepName, size, min);
+        }
+        size = min;
+    }
+
+    // -------------------------
+    // Helper methods
+    // -------------------------
+
+    private int resize(int current, long elapsedNanos, int written) {
+        long ideal = elapsedNanos <= 0
+                ? max
+                : Math.round((double) targetNanos * written / elapsedNanos);
+        long next = current + (ideal - current) / 2;
+        next = Math.max(current / 2, Math.min(2L * current, next));
+        return clamp(next);
+    }
+
+    private int clamp(long value) {
+        return (int) Math.max(min, Math.min(max, value));
+    }
+}
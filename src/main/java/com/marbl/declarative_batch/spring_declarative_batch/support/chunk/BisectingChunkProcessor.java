@@ -0,0 +1,160 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.chunk;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.step.item.BatchRetryTemplate;
+import org.springframework.batch.core.step.item.FaultTolerantChunkProcessor;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * {@link FaultTolerantChunkProcessor} that isolates the failing items of a chunk write by bisection.
+ *
+ * <p>Every write runs under a savepoint of the chunk transaction. When the whole chunk fails, the half that
+ * failed is split again until single items are left, so {@code k} bad items out of {@code n} cost
+ * {@code O(k log n)} sub-writes instead of the rollback and {@code n} single-item transactions of the
+ * standard scan. A half whose sibling was written is known to fail and is split without writing it whole.
+ * Each failing item is checked against the write skip policy (and the skip limit) as it is found: a skipped
+ * item is removed from the chunk, so write and skip counts, {@code onSkipInWrite} callbacks and the restart
+ * state are the same as with the scan. An item that must not be skipped fails the write, which rolls back
+ * the chunk and goes through the standard retry/scan handling.</p>
+ *
+ * <p>Sub-writes are undone only for resources bound to the step transaction (e.g. JDBC writers on the
+ * transaction manager's datasource); skippable write failures are not retried.</p>
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ */
+@Slf4j
+public class BisectingChunkProcessor<I, O> extends FaultTolerantChunkProcessor<I, O> {
+
+    private final TransactionTemplate savepoint;
+
+    private final ThreadLocal<StepContribution> contribution = new ThreadLocal<>();
+
+    private SkipPolicy writeSkipPolicy;
+
+    public BisectingChunkProcessor(ItemProcessor<? super I, ? extends O> itemProcessor,
+                                   ItemWriter<? super O> itemWriter,
+                                   BatchRetryTemplate batchRetryTemplate,
+                                   PlatformTransactionManager transactionManager) {
+        super(itemProcessor, itemWriter, batchRetryTemplate);
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    @Override
+    public void setWriteSkipPolicy(SkipPolicy writeSkipPolicy) {
+        super.setWriteSkipPolicy(writeSkipPolicy);
+        this.writeSkipPolicy = writeSkipPolicy;
+    }
+
+    @Override
+    protected void write(StepContribution contribution, Chunk<I> inputs, Chunk<O> outputs) throws Exception {
+        this.contribution.set(contribution);
+        try {
+            super.write(contribution, inputs, outputs);
+        } finally {
+            this.contribution.remove();
+        }
+    }
+
+    @Override
+    protected void writeItems(Chunk<O> items) throws Exception {
+        StepContribution stepContribution = contribution.get();
+        // Single items (also those of a framework scan) need no isolation
+        if (stepContribution == null || items.size() < 2) {
+            super.writeItems(items);
+            return;
+        }
+        List<O> outputs = items.getItems();
+        Exception failure = tryWrite(outputs);
+        if (failure == null) {
+            return;
+        }
+
+        Exception[] skipped = new Exception[outputs.size()];
+        int[] writes = {1};
+        isolate(outputs, 0, outputs.size(), failure, skipped, writes, stepContribution);
+
+        int count = 0;
+        int index = 0;
+        for (Chunk<O>.ChunkIterator iterator = items.iterator(); iterator.hasNext(); index++) {
+            iterator.next();
+            if (skipped[index] != null) {
+                // Recorded on the chunk, reported to the skip listeners after the write
+                iterator.remove(skipped[index]);
+                count++;
+            }
+        }
+        log.debug("Isolated {} failing items out of {} in {} writes", count, outputs.size(), writes[0]);
+    }
+
+    /**
+     * Writes the items of {@code [from, to)} that do not fail, marking the others in {@code skipped}.
+     *
+     * @param failure the exception the whole range failed with, {@code null} when the range is only known to
+     *                contain a failing item
+     */
+    private void isolate(List<O> items, int from, int to, Exception failure, Exception[] skipped, int[] writes,
+                         StepContribution stepContribution) throws Exception {
+        if (to - from == 1) {
+            if (failure == null) {
+                writes[0]++;
+                failure = tryWrite(items.subList(from, to));
+            }
+            if (failure != null) {
+                skip(items.get(from), failure, stepContribution);
+                skipped[from] = failure;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        writes[0]++;
+        Exception left = tryWrite(items.subList(from, mid));
+        if (left != null) {
+            isolate(items, from, mid, left, skipped, writes, stepContribution);
+            writes[0]++;
+            Exception right = tryWrite(items.subList(mid, to));
+            if (right != null) {
+                isolate(items, mid, to, right, skipped, writes, stepContribution);
+            }
+        } else {
+            // The left half is written, the failing items are in the right one
+            isolate(items, mid, to, null, skipped, writes, stepContribution);
+        }
+    }
+
+    private void skip(O item, Exception failure, StepContribution stepContribution) throws Exception {
+        // Throws SkipLimitExceededException once the limit is reached
+        if (!writeSkipPolicy.shouldSkip(failure, stepContribution.getStepSkipCount())) {
+            throw failure;
+        }
+        stepContribution.incrementWriteSkipCount();
+        log.debug("Skipping item on write: {}", item, failure);
+    }
+
+    /**
+     * Writes the items under a savepoint, rolled back when the write fails.
+     *
+     * @return the write failure, {@code null} when the items were written
+     */
+    private Exception tryWrite(List<O> items) {
+        return savepoint.execute(status -> {
+            try {
+                super.writeItems(new Chunk<>(items));
+                return null;
+            } catch (Exception e) {
+                status.setRollbackOnly();
+                return e;
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.chunk;
+
+import org.springframework.batch.core.StepListener;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.item.ChunkProcessor;
+import org.springframework.batch.core.step.item.KeyGenerator;
+import org.springframework.batch.core.step.skip.SkipPolicy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link FaultTolerantStepBuilder} whose chunk processor locates the failing items of a chunk write by
+ * bisection ({@link BisectingChunkProcessor}) instead of scanning the chunk one item per transaction.
+ *
+ * <p>{@link #createChunkProcessor()} configures the processor exactly as the parent builder does; the
+ * transaction manager must support savepoints (e.g. {@code DataSourceTransactionManager}).</p>
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ */
+public class BisectingFaultTolerantStepBuilder<I, O> extends FaultTolerantStepBuilder<I, O> {
+
+    private KeyGenerator keyGenerator;
+    private boolean processorTransactional = true;
+
+    public BisectingFaultTolerantStepBuilder(SimpleStepBuilder<I, O> parent) {
+        super(parent);
+    }
+
+    // The parent keeps these two private: record them for createChunkProcessor
+
+    @Override
+    public FaultTolerantStepBuilder<I, O> keyGenerator(KeyGenerator keyGenerator) {
+        this.keyGenerator = keyGenerator;
+        return super.keyGenerator(keyGenerator);
+    }
+
+    @Override
+    public FaultTolerantStepBuilder<I, O> processorNonTransactional() {
+        this.processorTransactional = false;
+        return super.processorNonTransactional();
+    }
+
+    @Override
+    protected ChunkProcessor<I> createChunkProcessor() {
+        PlatformTransactionManager transactionManager = getTransactionManager();
+        if (!(transactionManager instanceof AbstractPlatformTransactionManager platform)
+                || !platform.isNestedTransactionAllowed()) {
+            throw new IllegalArgumentException("Skip strategy BISECT requires a transaction manager with savepoint support, got "
+                    + (transactionManager == null ? "none" : transactionManager.getClass().getSimpleName()));
+        }
+
+        BisectingChunkProcessor<I, O> chunkProcessor = new BisectingChunkProcessor<>(
+                getProcessor(), getWriter(), createRetryOperations(), transactionManager);
+        chunkProcessor.setBuffering(!isReaderTransactionalQueue());
+        chunkProcessor.setProcessorTransactional(processorTransactional);
+
+        SkipPolicy skipPolicy = getFatalExceptionAwareProxy(createSkipPolicy());
+        chunkProcessor.setWriteSkipPolicy(skipPolicy);
+        chunkProcessor.setProcessSkipPolicy(skipPolicy);
+        chunkProcessor.setRollbackClassifier(getRollbackClassifier());
+        chunkProcessor.setKeyGenerator(keyGenerator);
+        detectStreamInReader();
+
+        List<StepListener> listeners = new ArrayList<>(getItemListeners());
+        listeners.addAll(getSkipListeners());
+        chunkProcessor.setListeners(listeners);
+        chunkProcessor.setChunkMonitor(getChunkMonitor());
+
+        return chunkProcessor;
+    }
+}
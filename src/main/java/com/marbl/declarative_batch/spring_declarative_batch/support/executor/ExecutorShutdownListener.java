@@ -0,0 +1,32 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.executor;
+
+import com.marbl.declarative_batch.spring_declarative_batch.factory.executor.TaskExecutorFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.List;
+
+/**
+ * {@link JobExecutionListener} shutting down the task executors built with a job once it has run.
+ *
+ * <p>A job is built for each execution, so its executors are never reused. They are not shut down after
+ * each step: a partitioned worker step runs once per partition on the same executors.</p>
+ */
+@Slf4j
+public class ExecutorShutdownListener implements JobExecutionListener {
+
+    private final List<TaskExecutor> executors;
+
+    public ExecutorShutdownListener(List<TaskExecutor> executors) {
+        this.executors = List.copyOf(executors);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        log.debug("Shutting down {} task executors of job '{}'",
+                executors.size(), jobExecution.getJobInstance().getJobName());
+        TaskExecutorFactory.shutdown(executors);
+    }
+}
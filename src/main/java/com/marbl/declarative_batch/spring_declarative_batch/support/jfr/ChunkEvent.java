@@ -0,0 +1,29 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.marbl.bulk.Chunk")
+@Label("Chunk")
+@Description("Whole chunk, from the first read to the end of the transaction")
+class ChunkEvent extends StepPhaseEvent {
+
+    @Label("Items Read")
+    long itemsRead;
+
+    @Label("Items Written")
+    long itemsWritten;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Bytes Written")
+    @DataAmount
+    long bytesWritten;
+
+    @Label("Rolled Back")
+    boolean rolledBack;
+}
@@ -0,0 +1,14 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.marbl.bulk.Commit")
+@Label("Commit")
+@Description("From the end of the write to the end of the chunk transaction")
+class CommitEvent extends StepPhaseEvent {
+
+    @Label("Items")
+    long items;
+}
@@ -0,0 +1,94 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cheap estimate of the payload of an item: characters of text, length of binary values, 8 bytes for
+ * numbers and other scalars. Beans are estimated from their own fields, one level deep, through field lists
+ * cached per class; nested beans count as a reference. Not the retained heap size, only an order of
+ * magnitude to correlate with I/O.
+ */
+final class ItemSizeEstimator {
+
+    private static final int SCALAR_SIZE = 8;
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && !isJdkType(c); c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    private ItemSizeEstimator() {
+    }
+
+    static long estimate(Object item) {
+        if (item instanceof Collection<?> values) {
+            long size = 0;
+            for (Object value : values) {
+                size += valueSize(value);
+            }
+            return size;
+        }
+        if (item instanceof Map<?, ?> map) {
+            long size = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += valueSize(entry.getKey()) + valueSize(entry.getValue());
+            }
+            return size;
+        }
+        if (item == null || isJdkType(item.getClass())) {
+            return valueSize(item);
+        }
+        long size = 0;
+        for (Field field : FIELDS.get(item.getClass())) {
+            try {
+                size += field.getType().isPrimitive() ? SCALAR_SIZE : valueSize(field.get(item));
+            } catch (IllegalAccessException e) {
+                size += SCALAR_SIZE;
+            }
+        }
+        return size;
+    }
+
+    private static long valueSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (value instanceof char[] chars) {
+            return chars.length;
+        }
+        if (value instanceof ByteBuffer buffer) {
+            return buffer.remaining();
+        }
+        if (value instanceof Temporal) {
+            return 2L * SCALAR_SIZE;
+        }
+        return SCALAR_SIZE;
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        return type.isPrimitive() || type.isArray() || type.getName().startsWith("java.");
+    }
+}
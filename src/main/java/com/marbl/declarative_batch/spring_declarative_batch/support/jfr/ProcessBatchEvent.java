@@ -0,0 +1,17 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.marbl.bulk.ProcessBatch")
+@Label("Process Batch")
+@Description("Items of a chunk passed through the processor")
+class ProcessBatchEvent extends StepPhaseEvent {
+
+    @Label("Items")
+    long items;
+
+    @Label("Filtered")
+    long filtered;
+}
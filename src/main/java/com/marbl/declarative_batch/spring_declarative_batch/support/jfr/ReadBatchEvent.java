@@ -0,0 +1,19 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.marbl.bulk.ReadBatch")
+@Label("Read Batch")
+@Description("Items of a chunk read from the reader")
+class ReadBatchEvent extends StepPhaseEvent {
+
+    @Label("Items")
+    long items;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,228 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import jdk.jfr.FlightRecorder;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener emitting Java Flight Recorder events for the phases of a chunk step.
+ *
+ * <p>Each chunk produces a {@code com.marbl.bulk.Chunk} event spanning the whole transaction, a
+ * {@code ReadBatch} event from the first read to the first process (or write), a {@code ProcessBatch} event
+ * up to the write, a {@code WriteBatch} event per writer call and a {@code Commit} event from the end of the
+ * write to the end of the chunk. Events carry the job, step and chunk number, item counts and, when
+ * {@code byteEstimates} is on, the estimated size of the items read and written. Recorded next to the JVM
+ * events, they let a recording relate a slow phase to GC pauses, lock contention or socket I/O.</p>
+ *
+ * <p>When no recording enables these events the callbacks only allocate the chunk events and check
+ * {@link jdk.jfr.Event#isEnabled()}; item sizes are never estimated. State is kept per thread, so
+ * multi-threaded and partitioned steps can share the listener.</p>
+ */
+public class StepFlightRecorderListener implements ChunkListener, ItemReadListener<Object>,
+        ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+
+    static {
+        // Make the event types visible to recording settings before the first chunk
+        FlightRecorder.register(ChunkEvent.class);
+        FlightRecorder.register(ReadBatchEvent.class);
+        FlightRecorder.register(ProcessBatchEvent.class);
+        FlightRecorder.register(WriteBatchEvent.class);
+        FlightRecorder.register(CommitEvent.class);
+    }
+
+    private final String job;
+    private final String step;
+    private final boolean byteEstimates;
+
+    private final AtomicLong chunks = new AtomicLong();
+    private final ThreadLocal<ChunkEvents> events = new ThreadLocal<>();
+
+    public StepFlightRecorderListener(String job, String step, boolean byteEstimates) {
+        this.job = job;
+        this.step = step;
+        this.byteEstimates = byteEstimates;
+    }
+
+    // --- Chunk ---
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkEvents chunk = new ChunkEvents(chunks.incrementAndGet());
+        chunk.chunk.begin();
+        events.set(chunk);
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        endChunk(false);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        endChunk(true);
+    }
+
+    private void endChunk(boolean rolledBack) {
+        ChunkEvents chunk = events.get();
+        if (chunk == null) {
+            return;
+        }
+        events.remove();
+        chunk.endRead();
+        chunk.endProcess();
+        if (chunk.commit != null) {
+            chunk.commit.items = chunk.chunk.itemsWritten;
+            chunk.commit(chunk.commit);
+        }
+        chunk.chunk.itemsRead = chunk.read.items;
+        chunk.chunk.bytesRead = chunk.read.bytes;
+        chunk.chunk.rolledBack = rolledBack;
+        chunk.commit(chunk.chunk);
+    }
+
+    // --- Read ---
+
+    @Override
+    public void beforeRead() {
+        ChunkEvents chunk = events.get();
+        if (chunk != null && !chunk.readStarted) {
+            chunk.readStarted = true;
+            chunk.read.begin();
+        }
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        ChunkEvents chunk = events.get();
+        if (chunk != null) {
+            chunk.read.items++;
+            if (byteEstimates && chunk.read.isEnabled()) {
+                chunk.read.bytes += ItemSizeEstimator.estimate(item);
+            }
+        }
+    }
+
+    // --- Process ---
+
+    @Override
+    public void beforeProcess(Object item) {
+        ChunkEvents chunk = events.get();
+        if (chunk != null) {
+            chunk.endRead();
+            if (!chunk.processStarted) {
+                chunk.processStarted = true;
+                chunk.process.begin();
+            }
+        }
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        ChunkEvents chunk = events.get();
+        if (chunk != null) {
+            chunk.process.items++;
+            if (result == null) {
+                chunk.process.filtered++;
+            }
+        }
+    }
+
+    @Override
+    public void onProcessError(Object item, Exception e) {
+        ChunkEvents chunk = events.get();
+        if (chunk != null) {
+            chunk.process.items++;
+        }
+    }
+
+    // --- Write ---
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        ChunkEvents chunk = events.get();
+        if (chunk != null) {
+            chunk.endRead();
+            chunk.endProcess();
+            // Scanning after a failed write calls the writer once per item
+            chunk.write = new WriteBatchEvent();
+            chunk.write.begin();
+        }
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        ChunkEvents chunk = events.get();
+        if (chunk != null && chunk.write != null) {
+            WriteBatchEvent write = chunk.write;
+            chunk.write = null;
+            write.items = items.size();
+            if (byteEstimates && write.isEnabled()) {
+                for (Object item : items) {
+                    write.bytes += ItemSizeEstimator.estimate(item);
+                }
+            }
+            chunk.commit(write);
+            chunk.chunk.itemsWritten += write.items;
+            chunk.chunk.bytesWritten += write.bytes;
+            chunk.commit = new CommitEvent();
+            chunk.commit.begin();
+        }
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<?> items) {
+        ChunkEvents chunk = events.get();
+        if (chunk != null && chunk.write != null) {
+            WriteBatchEvent write = chunk.write;
+            chunk.write = null;
+            write.items = items.size();
+            write.failed = true;
+            chunk.commit(write);
+        }
+    }
+
+    private final class ChunkEvents {
+        private final long number;
+        private final ChunkEvent chunk = new ChunkEvent();
+        private final ReadBatchEvent read = new ReadBatchEvent();
+        private final ProcessBatchEvent process = new ProcessBatchEvent();
+        private WriteBatchEvent write;
+        private CommitEvent commit;
+        private boolean readStarted;
+        private boolean readEnded;
+        private boolean processStarted;
+        private boolean processEnded;
+
+        private ChunkEvents(long number) {
+            this.number = number;
+        }
+
+        private void endRead() {
+            if (readStarted && !readEnded) {
+                readEnded = true;
+                commit(read);
+            }
+        }
+
+        private void endProcess() {
+            if (processStarted && !processEnded) {
+                processEnded = true;
+                commit(process);
+            }
+        }
+
+        private void commit(StepPhaseEvent event) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.identify(job, step, number);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the JFR events of a chunk step: every phase is identified by job, step and chunk number.
+ */
+@Category({"Bulk Batch", "Step"})
+@StackTrace(false)
+abstract class StepPhaseEvent extends Event {
+
+    @Label("Job")
+    String job;
+
+    @Label("Step")
+    String step;
+
+    @Label("Chunk")
+    long chunk;
+
+    void identify(String job, String step, long chunk) {
+        this.job = job;
+        this.step = step;
+        this.chunk = chunk;
+    }
+}
@@ -0,0 +1,22 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.marbl.bulk.WriteBatch")
+@Label("Write Batch")
+@Description("Items of a chunk handed to the writer")
+class WriteBatchEvent extends StepPhaseEvent {
+
+    @Label("Items")
+    long items;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,350 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.mapping;
+
+import com.marbl.declarative_batch.spring_declarative_batch.utils.PropertyNameUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link RowMapper} built from a declarative column-to-property mapping.
+ *
+ * <p>Constructors and setters are bound once with {@link LambdaFactory}; column indexes are resolved from the
+ * {@link ResultSetMetaData} of the first row and reused for the following ones, so no row pays a column lookup
+ * by name. Values are read with the typed getters of the property type ({@code getLong}, {@code getString},
+ * {@code getObject(i, LocalDate.class)}, ...), and {@code int}, {@code long} and {@code double} bean properties
+ * are set without boxing.</p>
+ *
+ * <p>Without an explicit mapping every writable property (or record component) is matched to the column
+ * with the same name, as leniently as {@code BeanPropertyRowMapper}; with one, only the listed columns are read
+ * and each of them must be in the result set. Properties without a column keep their default value; a SQL
+ * {@code NULL} maps to {@code null}, or to the JDBC default for primitives.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public final class ColumnMappingRowMapper<T> implements RowMapper<T> {
+
+    private final Class<T> type;
+    private final Map<String, String> columns;
+    private final Supplier<T> constructor;
+    private final List<Property> properties;
+    private final MethodHandle recordConstructor;
+    private final MethodHandles.Lookup lookup;
+
+    private volatile Binding<T> binding;
+
+    private ColumnMappingRowMapper(Class<T> type, Map<String, String> columns, Supplier<T> constructor,
+                                   List<Property> properties, MethodHandle recordConstructor,
+                                   MethodHandles.Lookup lookup) {
+        this.type = type;
+        this.columns = columns;
+        this.constructor = constructor;
+        this.properties = properties;
+        this.recordConstructor = recordConstructor;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Builds a mapper populating {@code type} from result set rows.
+     *
+     * @param type    the target JavaBean or record class
+     * @param columns column label to property name, or {@code null}/empty to map properties to same-named columns
+     * @throws IllegalArgumentException if the class cannot be instantiated or a mapped property does not exist
+     */
+    public static <T> ColumnMappingRowMapper<T> of(Class<T> type, Map<String, String> columns) {
+        try {
+            MethodHandles.Lookup lookup = LambdaFactory.lookupFor(type);
+            List<Property> properties = new ArrayList<>();
+            Supplier<T> constructor = null;
+            MethodHandle recordConstructor = null;
+
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                Class<?>[] parameterTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    parameterTypes[i] = components[i].getType();
+                    properties.add(new Property(components[i].getName(), components[i].getType(), null));
+                }
+                recordConstructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } else {
+                MethodHandle noArgs = lookup.findConstructor(type, MethodType.methodType(void.class));
+                constructor = LambdaFactory.create(lookup, noArgs, Supplier.class, "get", MethodType.methodType(Object.class));
+                for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+                    if (descriptor.getWriteMethod() != null) {
+                        properties.add(new Property(descriptor.getName(), descriptor.getPropertyType(),
+                                lookup.unreflect(descriptor.getWriteMethod())));
+                    }
+                }
+            }
+
+            Map<String, String> mapped = columns == null || columns.isEmpty() ? null : byProperty(columns, properties, type);
+            log.debug("Built column mapping row mapper for {} with columns {}", type.getName(),
+                    mapped != null ? mapped : "matched by name");
+            return new ColumnMappingRowMapper<>(type, mapped, constructor, properties, recordConstructor, lookup);
+
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Cannot build a row mapper for %s: %s",
+                    type.getName(), e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Binding<T> current = binding;
+        if (current == null) {
+            current = bind(rs.getMetaData());
+            binding = current;
+        }
+        return current.map(rs);
+    }
+
+    // -------------------------
+    // Binding
+    // -------------------------
+
+    /**
+     * Resolves the column index of every mapped property and specialises the mapping for them.
+     */
+    private Binding<T> bind(ResultSetMetaData metaData) throws SQLException {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            indexes.putIfAbsent(PropertyNameUtils.normalize(JdbcUtils.lookupColumnName(metaData, i)), i);
+        }
+
+        int[] propertyIndexes = new int[properties.size()];
+        for (int i = 0; i < propertyIndexes.length; i++) {
+            String property = properties.get(i).name();
+            String column = columns != null ? columns.get(property) : property;
+            Integer index = column != null ? indexes.get(PropertyNameUtils.normalize(column)) : null;
+            if (index == null && columns != null && column != null) {
+                throw new IllegalStateException(String.format("Column '%s' mapped to property '%s' of %s is not in the result set",
+                        column, property, type.getName()));
+            }
+            propertyIndexes[i] = index != null ? index : -1;
+        }
+
+        try {
+            Binding<T> resolved = recordConstructor != null ? bindRecord(propertyIndexes) : bindBean(propertyIndexes);
+            log.debug("Resolved result set columns for {}", type.getName());
+            return resolved;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(String.format("Cannot bind the result set columns to %s: %s",
+                    type.getName(), e.getMessage()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Binding<T> bindRecord(int[] propertyIndexes) {
+        int count = properties.size();
+        Column[] readers = new Column[count];
+        Object[] defaults = new Object[count];
+        for (int i = 0; i < count; i++) {
+            Class<?> componentType = properties.get(i).type();
+            readers[i] = propertyIndexes[i] > 0 ? column(componentType, propertyIndexes[i]) : null;
+            defaults[i] = componentType.isPrimitive() ? java.lang.reflect.Array.get(
+                    java.lang.reflect.Array.newInstance(componentType, 1), 0) : null;
+        }
+
+        return rs -> {
+            Object[] args = defaults.clone();
+            for (int i = 0; i < count; i++) {
+                if (readers[i] != null) {
+                    args[i] = readers[i].read(rs);
+                }
+            }
+            try {
+                return (T) recordConstructor.invokeExact(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot create record " + type.getName(), e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Binding<T> bindBean(int[] propertyIndexes) throws Throwable {
+        List<Setter<T>> setters = new ArrayList<>();
+        for (int i = 0; i < propertyIndexes.length; i++) {
+            if (propertyIndexes[i] > 0) {
+                setters.add(setter(properties.get(i), propertyIndexes[i]));
+            }
+        }
+        Setter<T>[] bound = (Setter<T>[]) setters.toArray(new Setter<?>[0]);
+
+        return rs -> {
+            T target = constructor.get();
+            for (Setter<T> setter : bound) {
+                setter.set(target, rs);
+            }
+            return target;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Setter<T> setter(Property property, int index) throws Throwable {
+        MethodHandle handle = property.setter();
+        // Setters returning a value (fluent style) are adapted to void
+        MethodType instantiated = handle.type().changeReturnType(void.class);
+
+        if (property.type() == int.class) {
+            ObjIntConsumer<T> consumer = LambdaFactory.create(lookup, handle, ObjIntConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, int.class), instantiated);
+            return (target, rs) -> consumer.accept(target, rs.getInt(index));
+        }
+        if (property.type() == long.class) {
+            ObjLongConsumer<T> consumer = LambdaFactory.create(lookup, handle, ObjLongConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, long.class), instantiated);
+            return (target, rs) -> consumer.accept(target, rs.getLong(index));
+        }
+        if (property.type() == double.class) {
+            ObjDoubleConsumer<T> consumer = LambdaFactory.create(lookup, handle, ObjDoubleConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, double.class), instantiated);
+            return (target, rs) -> consumer.accept(target, rs.getDouble(index));
+        }
+
+        Column column = column(property.type(), index);
+        MethodType boxed = instantiated.changeParameterType(1, MethodType.methodType(property.type()).wrap().returnType());
+        BiConsumer<T, Object> consumer = LambdaFactory.create(lookup, handle, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class), boxed);
+        return (target, rs) -> consumer.accept(target, column.read(rs));
+    }
+
+    // -------------------------
+    // Column readers
+    // -------------------------
+
+    /**
+     * Returns the typed getter for a value of the given type; wrappers map SQL {@code NULL} to {@code null},
+     * primitives keep the JDBC default.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Column column(Class<?> valueType, int index) {
+        boolean primitive = valueType.isPrimitive();
+        Class<?> boxed = MethodType.methodType(valueType).wrap().returnType();
+
+        if (boxed == String.class) {
+            return rs -> rs.getString(index);
+        } else if (boxed == Long.class) {
+            return rs -> {
+                long value = rs.getLong(index);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        } else if (boxed == Integer.class) {
+            return rs -> {
+                int value = rs.getInt(index);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        } else if (boxed == Double.class) {
+            return rs -> {
+                double value = rs.getDouble(index);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        } else if (boxed == Float.class) {
+            return rs -> {
+                float value = rs.getFloat(index);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        } else if (boxed == Short.class) {
+            return rs -> {
+                short value = rs.getShort(index);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        } else if (boxed == Byte.class) {
+            return rs -> {
+                byte value = rs.getByte(index);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        } else if (boxed == Boolean.class) {
+            return rs -> {
+                boolean value = rs.getBoolean(index);
+                return !primitive && rs.wasNull() ? null : value;
+            };
+        } else if (boxed == BigDecimal.class) {
+            return rs -> rs.getBigDecimal(index);
+        } else if (boxed == BigInteger.class) {
+            return rs -> {
+                BigDecimal value = rs.getBigDecimal(index);
+                return value != null ? value.toBigInteger() : null;
+            };
+        } else if (boxed == byte[].class) {
+            return rs -> rs.getBytes(index);
+        } else if (boxed.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) boxed;
+            return rs -> {
+                String value = rs.getString(index);
+                return value != null ? Enum.valueOf(enumType, value.trim()) : null;
+            };
+        }
+        // java.time types, UUID and any other type the driver converts natively
+        return rs -> rs.getObject(index, boxed);
+    }
+
+    /**
+     * Inverts the declared column-to-property mapping, failing on properties the class does not have.
+     */
+    private static Map<String, String> byProperty(Map<String, String> columns, List<Property> properties, Class<?> type) {
+        Map<String, String> names = new HashMap<>();
+        for (Property property : properties) {
+            names.put(PropertyNameUtils.normalize(property.name()), property.name());
+        }
+
+        Map<String, String> mapped = new LinkedHashMap<>();
+        columns.forEach((column, property) -> {
+            String name = property != null ? names.get(PropertyNameUtils.normalize(property)) : null;
+            if (name == null) {
+                throw new IllegalArgumentException(String.format("Column '%s' is mapped to '%s', which is not a writable property of %s (available: %s)",
+                        column, property, type.getName(), Set.copyOf(names.values())));
+            }
+            mapped.put(name, column);
+        });
+        return mapped;
+    }
+
+    private record Property(String name, Class<?> type, MethodHandle setter) {
+    }
+
+    @FunctionalInterface
+    private interface Binding<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Setter<T> {
+        void set(T target, ResultSet rs) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Column {
+        Object read(ResultSet rs) throws SQLException;
+    }
+}
@@ -0,0 +1,339 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.mapping;
+
+import com.marbl.declarative_batch.spring_declarative_batch.utils.PropertyNameUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.BeanUtils;
+import org.springframework.validation.BindException;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link FieldSetMapper} specialised once for a target class and a fixed list of column names.
+ *
+ * <p>Column indexes are resolved up front (with the same lenient name matching as
+ * {@code BeanWrapperFieldSetMapper}) and values are read with {@link FieldSet#readRawString(int)}:</p>
+ * <ul>
+ *   <li>JavaBeans are created through a no-arg constructor and populated through setters bound with
+ *       {@link LambdaMetafactory}; {@code int}, {@code long} and {@code double} properties are parsed and set
+ *       without boxing.</li>
+ *   <li>Records are created through their canonical constructor, components missing from the columns get
+ *       their default value.</li>
+ * </ul>
+ *
+ * <p>Supported types are String, primitives and their wrappers, BigDecimal, BigInteger, enums and the ISO
+ * formats of LocalDate, LocalDateTime and LocalTime. Numbers are trimmed; a blank value maps to {@code null}
+ * for reference types and fails for primitives, as with the BeanWrapper path. Columns without a matching
+ * property are ignored.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public final class DirectFieldSetMapper<T> implements FieldSetMapper<T> {
+
+    private final Class<T> type;
+    private final Supplier<T> constructor;
+    private final List<Binder<T>> binders;
+    private final MethodHandle recordConstructor;
+    private final int[] recordIndexes;
+    private final Function<String, Object>[] recordConverters;
+    private final Object[] recordDefaults;
+
+    private DirectFieldSetMapper(Class<T> type, Supplier<T> constructor, List<Binder<T>> binders) {
+        this.type = type;
+        this.constructor = constructor;
+        this.binders = binders;
+        this.recordConstructor = null;
+        this.recordIndexes = null;
+        this.recordConverters = null;
+        this.recordDefaults = null;
+    }
+
+    private DirectFieldSetMapper(Class<T> type, MethodHandle recordConstructor, int[] recordIndexes,
+                                 Function<String, Object>[] recordConverters, Object[] recordDefaults) {
+        this.type = type;
+        this.constructor = null;
+        this.binders = null;
+        this.recordConstructor = recordConstructor;
+        this.recordIndexes = recordIndexes;
+        this.recordConverters = recordConverters;
+        this.recordDefaults = recordDefaults;
+    }
+
+    /**
+     * Builds a mapper populating {@code type} from field sets with the given column names.
+     *
+     * @throws IllegalArgumentException if the class cannot be instantiated or a mapped property has an unsupported type
+     */
+    public static <T> DirectFieldSetMapper<T> of(Class<T> type, String[] names) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] != null) {
+                indexes.putIfAbsent(PropertyNameUtils.normalize(names[i]), i);
+            }
+        }
+
+        try {
+            MethodHandles.Lookup lookup = LambdaFactory.lookupFor(type);
+            DirectFieldSetMapper<T> mapper = type.isRecord()
+                    ? forRecord(type, indexes, lookup)
+                    : forBean(type, indexes, lookup);
+            log.debug("Built direct field set mapper for {} with columns {}", type.getName(), indexes.keySet());
+            return mapper;
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Cannot build a direct mapper for %s: %s",
+                    type.getName(), e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public T mapFieldSet(FieldSet fieldSet) throws BindException {
+        if (recordConstructor != null) {
+            return mapRecord(fieldSet);
+        }
+        T target = constructor.get();
+        for (Binder<T> binder : binders) {
+            binder.bind(target, fieldSet);
+        }
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T mapRecord(FieldSet fieldSet) {
+        Object[] args = recordDefaults.clone();
+        for (int i = 0; i < recordIndexes.length; i++) {
+            int index = recordIndexes[i];
+            if (index >= 0) {
+                args[i] = convert(recordConverters[i], fieldSet, index, i);
+            }
+        }
+        try {
+            return (T) recordConstructor.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create record " + type.getName(), e);
+        }
+    }
+
+    private Object convert(Function<String, Object> converter, FieldSet fieldSet, int index, int component) {
+        String raw = fieldSet.readRawString(index);
+        try {
+            return converter.apply(raw);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(String.format("Cannot map value '%s' to component '%s' of %s",
+                    raw, type.getRecordComponents()[component].getName(), type.getName()), e);
+        }
+    }
+
+    // -------------------------
+    // Builders
+    // -------------------------
+
+    private static <T> DirectFieldSetMapper<T> forBean(Class<T> type, Map<String, Integer> indexes,
+                                                       MethodHandles.Lookup lookup) throws Throwable {
+        MethodHandle noArgs = lookup.findConstructor(type, MethodType.methodType(void.class));
+        Supplier<T> constructor = LambdaFactory.create(lookup, noArgs, Supplier.class, "get", MethodType.methodType(Object.class));
+
+        List<Binder<T>> binders = new ArrayList<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            Integer index = indexes.get(PropertyNameUtils.normalize(descriptor.getName()));
+            if (index == null || descriptor.getWriteMethod() == null) {
+                continue;
+            }
+            MethodHandle setter = lookup.unreflect(descriptor.getWriteMethod());
+            binders.add(binder(lookup, setter, descriptor.getPropertyType(), index, descriptor.getName(), type));
+        }
+        return new DirectFieldSetMapper<>(type, constructor, binders);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> DirectFieldSetMapper<T> forRecord(Class<T> type, Map<String, Integer> indexes,
+                                                         MethodHandles.Lookup lookup) throws Throwable {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        int[] recordIndexes = new int[components.length];
+        Function<String, Object>[] converters = (Function<String, Object>[]) new Function<?, ?>[components.length];
+        Object[] defaults = new Object[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            Class<?> componentType = components[i].getType();
+            parameterTypes[i] = componentType;
+            Integer index = indexes.get(PropertyNameUtils.normalize(components[i].getName()));
+            recordIndexes[i] = index != null ? index : -1;
+            converters[i] = index != null ? converter(componentType, components[i].getName(), type) : null;
+            defaults[i] = componentType.isPrimitive() ? java.lang.reflect.Array.get(
+                    java.lang.reflect.Array.newInstance(componentType, 1), 0) : null;
+        }
+
+        MethodHandle canonical = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new DirectFieldSetMapper<>(type, canonical, recordIndexes, converters, defaults);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Binder<T> binder(MethodHandles.Lookup lookup, MethodHandle setter, Class<?> propertyType,
+                                        int index, String property, Class<T> type) throws Throwable {
+        // Setters returning a value (fluent style) are adapted to void
+        MethodType instantiated = setter.type().changeReturnType(void.class);
+
+        if (propertyType == int.class) {
+            ObjIntConsumer<T> consumer = LambdaFactory.create(lookup, setter, ObjIntConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, int.class), instantiated);
+            return (target, fieldSet) -> {
+                String raw = fieldSet.readRawString(index);
+                try {
+                    consumer.accept(target, Integer.parseInt(raw.trim()));
+                } catch (NumberFormatException e) {
+                    throw invalidValue(raw, property, type, e);
+                }
+            };
+        }
+        if (propertyType == long.class) {
+            ObjLongConsumer<T> consumer = LambdaFactory.create(lookup, setter, ObjLongConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, long.class), instantiated);
+            return (target, fieldSet) -> {
+                String raw = fieldSet.readRawString(index);
+                try {
+                    consumer.accept(target, Long.parseLong(raw.trim()));
+                } catch (NumberFormatException e) {
+                    throw invalidValue(raw, property, type, e);
+                }
+            };
+        }
+        if (propertyType == double.class) {
+            ObjDoubleConsumer<T> consumer = LambdaFactory.create(lookup, setter, ObjDoubleConsumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class, double.class), instantiated);
+            return (target, fieldSet) -> {
+                String raw = fieldSet.readRawString(index);
+                try {
+                    consumer.accept(target, Double.parseDouble(raw.trim()));
+                } catch (NumberFormatException e) {
+                    throw invalidValue(raw, property, type, e);
+                }
+            };
+        }
+
+        Function<String, Object> converter = converter(propertyType, property, type);
+        MethodType boxed = instantiated.changeParameterType(1, MethodType.methodType(propertyType).wrap().returnType());
+        BiConsumer<T, Object> consumer = LambdaFactory.create(lookup, setter, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class), boxed);
+        return (target, fieldSet) -> {
+            String raw = fieldSet.readRawString(index);
+            Object value;
+            try {
+                value = converter.apply(raw);
+            } catch (RuntimeException e) {
+                throw invalidValue(raw, property, type, e);
+            }
+            consumer.accept(target, value);
+        };
+    }
+
+    // -------------------------
+    // Conversions
+    // -------------------------
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> converter(Class<?> valueType, String property, Class<?> type) {
+        boolean primitive = valueType.isPrimitive();
+        Class<?> boxed = MethodType.methodType(valueType).wrap().returnType();
+
+        Function<String, Object> parser;
+        if (boxed == String.class) {
+            return raw -> raw;
+        } else if (boxed == Integer.class) {
+            parser = Integer::valueOf;
+        } else if (boxed == Long.class) {
+            parser = Long::valueOf;
+        } else if (boxed == Double.class) {
+            parser = Double::valueOf;
+        } else if (boxed == Float.class) {
+            parser = Float::valueOf;
+        } else if (boxed == Short.class) {
+            parser = Short::valueOf;
+        } else if (boxed == Byte.class) {
+            parser = Byte::valueOf;
+        } else if (boxed == Boolean.class) {
+            parser = DirectFieldSetMapper::parseBoolean;
+        } else if (boxed == Character.class) {
+            parser = value -> {
+                if (value.length() != 1) {
+                    throw new IllegalArgumentException("Expected a single character");
+                }
+                return value.charAt(0);
+            };
+        } else if (boxed == BigDecimal.class) {
+            parser = BigDecimal::new;
+        } else if (boxed == BigInteger.class) {
+            parser = BigInteger::new;
+        } else if (boxed == LocalDate.class) {
+            parser = LocalDate::parse;
+        } else if (boxed == LocalDateTime.class) {
+            parser = LocalDateTime::parse;
+        } else if (boxed == LocalTime.class) {
+            parser = LocalTime::parse;
+        } else if (boxed.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) boxed;
+            parser = value -> Enum.valueOf(enumType, value);
+        } else {
+            throw new IllegalArgumentException(String.format(
+                    "Property '%s' of %s has type %s, which the direct mapper does not support: use mappingMode BEAN_WRAPPER",
+                    property, type.getName(), valueType.getName()));
+        }
+
+        return raw -> {
+            String value = raw == null ? "" : raw.trim();
+            if (value.isEmpty()) {
+                if (primitive) {
+                    throw new IllegalArgumentException("Empty value for primitive property");
+                }
+                return null;
+            }
+            return parser.apply(value);
+        };
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "on", "yes", "1" -> Boolean.TRUE;
+            case "false", "off", "no", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException("Invalid boolean value");
+        };
+    }
+
+    private static IllegalArgumentException invalidValue(String raw, String property, Class<?> type, RuntimeException e) {
+        return new IllegalArgumentException(String.format("Cannot map value '%s' to property '%s' of %s",
+                raw, property, type.getName()), e);
+    }
+
+    @FunctionalInterface
+    private interface Binder<T> {
+        void bind(T target, FieldSet fieldSet);
+    }
+}
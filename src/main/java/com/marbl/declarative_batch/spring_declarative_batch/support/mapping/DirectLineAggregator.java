@@ -0,0 +1,196 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.mapping;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.file.transform.LineAggregator;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Delimited {@link LineAggregator} that appends the named properties of an item straight into a
+ * {@link StringBuilder}, producing the same text as {@code DelimitedLineAggregator} with a
+ * {@code BeanWrapperFieldExtractor} (null values are written as empty fields).
+ *
+ * <p>Getters (or record accessors) are bound with {@code LambdaMetafactory} the first time an item class is
+ * seen and reused while the class does not change; {@code int}, {@code long}, {@code double} and
+ * {@code boolean} values are appended without boxing. Nested paths ({@code address.city}) are supported
+ * through chained getters. Not thread-safe.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class DirectLineAggregator<T> implements LineAggregator<T> {
+
+    private final String[] names;
+    private final String delimiter;
+
+    private Class<?> itemClass;
+    private FieldAppender[] appenders;
+
+    public DirectLineAggregator(String[] names, String delimiter) {
+        if (names == null || names.length == 0) {
+            throw new IllegalArgumentException("Field names must not be empty");
+        }
+        this.names = names.clone();
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public String aggregate(T item) {
+        StringBuilder line = new StringBuilder();
+        append(line, item);
+        return line.toString();
+    }
+
+    /**
+     * Appends the delimited fields of an item, without line separator.
+     */
+    public void append(StringBuilder line, T item) {
+        FieldAppender[] fields = appendersFor(item.getClass());
+        fields[0].append(line, item);
+        for (int i = 1; i < fields.length; i++) {
+            line.append(delimiter);
+            fields[i].append(line, item);
+        }
+    }
+
+    private FieldAppender[] appendersFor(Class<?> type) {
+        if (type != itemClass) {
+            FieldAppender[] created = new FieldAppender[names.length];
+            for (int i = 0; i < names.length; i++) {
+                created[i] = appender(type, names[i]);
+            }
+            appenders = created;
+            itemClass = type;
+            log.debug("Built direct line accessors for {} with fields {}", type.getName(), String.join(",", names));
+        }
+        return appenders;
+    }
+
+    // -------------------------
+    // Accessors
+    // -------------------------
+
+    private static FieldAppender appender(Class<?> type, String path) {
+        String[] segments = path.split("\\.");
+        if (segments.length == 1) {
+            return simpleAppender(type, path);
+        }
+
+        // Nested path: resolve each segment on the declared type of the previous one
+        Function<Object, Object> getter = null;
+        Class<?> segmentType = type;
+        String parentPath = "";
+        for (String segment : segments) {
+            Function<Object, Object> segmentGetter = objectGetter(segmentType, segment);
+            if (getter == null) {
+                getter = segmentGetter;
+            } else {
+                Function<Object, Object> parent = getter;
+                String nullPath = parentPath;
+                getter = item -> {
+                    Object value = parent.apply(item);
+                    if (value == null) {
+                        throw new IllegalStateException("Null value in nested path '" + nullPath + "' of " + item);
+                    }
+                    return segmentGetter.apply(value);
+                };
+            }
+            segmentType = getterMethod(segmentType, segment).getReturnType();
+            parentPath = parentPath.isEmpty() ? segment : parentPath + "." + segment;
+        }
+
+        Function<Object, Object> nested = getter;
+        return (line, item) -> appendValue(line, nested.apply(item));
+    }
+
+    private static FieldAppender simpleAppender(Class<?> type, String property) {
+        Method method = getterMethod(type, property);
+        Class<?> valueType = method.getReturnType();
+        try {
+            MethodHandles.Lookup lookup = LambdaFactory.lookupFor(method.getDeclaringClass());
+            MethodHandle getter = lookup.unreflect(method);
+            MethodType instantiated = getter.type();
+
+            if (valueType == int.class) {
+                ToIntFunction<Object> f = LambdaFactory.create(lookup, getter, ToIntFunction.class, "applyAsInt",
+                        MethodType.methodType(int.class, Object.class), instantiated);
+                return (line, item) -> line.append(f.applyAsInt(item));
+            }
+            if (valueType == long.class) {
+                ToLongFunction<Object> f = LambdaFactory.create(lookup, getter, ToLongFunction.class, "applyAsLong",
+                        MethodType.methodType(long.class, Object.class), instantiated);
+                return (line, item) -> line.append(f.applyAsLong(item));
+            }
+            if (valueType == double.class) {
+                ToDoubleFunction<Object> f = LambdaFactory.create(lookup, getter, ToDoubleFunction.class, "applyAsDouble",
+                        MethodType.methodType(double.class, Object.class), instantiated);
+                return (line, item) -> line.append(f.applyAsDouble(item));
+            }
+            if (valueType == boolean.class) {
+                Predicate<Object> f = LambdaFactory.create(lookup, getter, Predicate.class, "test",
+                        MethodType.methodType(boolean.class, Object.class), instantiated);
+                return (line, item) -> line.append(f.test(item));
+            }
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Cannot access property '%s' of %s: %s",
+                    property, type.getName(), e.getMessage()), e);
+        }
+
+        Function<Object, Object> f = objectGetter(type, property);
+        return (line, item) -> appendValue(line, f.apply(item));
+    }
+
+    private static void appendValue(StringBuilder line, Object value) {
+        if (value != null) {
+            line.append(value);
+        }
+    }
+
+    private static Function<Object, Object> objectGetter(Class<?> type, String property) {
+        Method method = getterMethod(type, property);
+        try {
+            MethodHandles.Lookup lookup = LambdaFactory.lookupFor(method.getDeclaringClass());
+            MethodHandle getter = lookup.unreflect(method);
+            // Primitive results are boxed, as a bean wrapper would
+            MethodType instantiated = getter.type().changeReturnType(getter.type().returnType().isPrimitive()
+                    ? MethodType.methodType(getter.type().returnType()).wrap().returnType()
+                    : getter.type().returnType());
+            return LambdaFactory.create(lookup, getter, Function.class, "apply",
+                    MethodType.methodType(Object.class, Object.class), instantiated);
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Cannot access property '%s' of %s: %s",
+                    property, type.getName(), e.getMessage()), e);
+        }
+    }
+
+    private static Method getterMethod(Class<?> type, String property) {
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.getName().equals(property)) {
+                    return component.getAccessor();
+                }
+            }
+        }
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+        if (descriptor == null || descriptor.getReadMethod() == null) {
+            throw new IllegalArgumentException(String.format("Property '%s' is not readable on %s", property, type.getName()));
+        }
+        return descriptor.getReadMethod();
+    }
+
+    @FunctionalInterface
+    private interface FieldAppender {
+        void append(StringBuilder line, Object item);
+    }
+}
@@ -0,0 +1,38 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.mapping;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Binds method handles to functional interfaces with {@link LambdaMetafactory}, so that generated
+ * accessors are invoked like regular lambdas instead of through reflection.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LambdaFactory {
+
+    /**
+     * Returns a lookup with private access to the target class, in which the lambda classes are defined.
+     */
+    public static MethodHandles.Lookup lookupFor(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+    }
+
+    public static <F> F create(MethodHandles.Lookup lookup, MethodHandle target, Class<?> functionalInterface,
+                        String method, MethodType erased) throws Throwable {
+        return create(lookup, target, functionalInterface, method, erased, target.type());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <F> F create(MethodHandles.Lookup lookup, MethodHandle target, Class<?> functionalInterface,
+                        String method, MethodType erased, MethodType instantiated) throws Throwable {
+        CallSite site = LambdaMetafactory.metafactory(lookup, method, MethodType.methodType(functionalInterface),
+                erased, target, instantiated);
+        return (F) site.getTarget().invoke();
+    }
+}
@@ -0,0 +1,200 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener publishing the Micrometer metrics of a chunk step.
+ *
+ * <p>Timers: {@code read} and {@code process} per item, {@code write} per chunk, {@code chunk} for the whole
+ * chunk including the commit, {@code commit} from the end of the write to the end of the chunk, and
+ * {@code reader.lag}, the time each chunk spent waiting on the reader, and {@code retry.backoff}, each wait
+ * of the retry back-off policy ({@link #getBackOffTimer()}). Counters: {@code items} (tag
+ * {@code phase}: read, filtered, written), {@code skips} (tag {@code phase}: read, process, write) and
+ * {@code rollbacks}. The {@code throughput} gauge, registered by the factory, holds the items written per
+ * second by the last chunk. Every meter is tagged with the job, step, reader, processor and writer names.</p>
+ *
+ * <p>Timings are kept per thread, so multi-threaded and partitioned steps can share the listener.</p>
+ */
+public class StepMetricsListener implements ChunkListener, ItemReadListener<Object>,
+        ItemProcessListener<Object, Object>, ItemWriteListener<Object>, SkipListener<Object, Object> {
+
+    private final Timer readTimer;
+    private final Timer processTimer;
+    private final Timer writeTimer;
+    private final Timer chunkTimer;
+    private final Timer commitTimer;
+    private final Timer readerLagTimer;
+    private final Timer backOffTimer;
+    private final Counter readCount;
+    private final Counter filterCount;
+    private final Counter writeCount;
+    private final Counter readSkips;
+    private final Counter processSkips;
+    private final Counter writeSkips;
+    private final Counter rollbacks;
+    private final AtomicLong throughput; // items per second, as double bits
+
+    private final ThreadLocal<ChunkTimings> timings = ThreadLocal.withInitial(ChunkTimings::new);
+
+    /**
+     * @param throughput value of the {@code throughput} gauge, shared by the listeners with the same tags
+     */
+    public StepMetricsListener(MeterRegistry registry, String prefix, Tags tags, boolean histograms,
+                               AtomicLong throughput) {
+        this.readTimer = timer(registry, prefix + ".read", "Time to read one item", tags, histograms);
+        this.processTimer = timer(registry, prefix + ".process", "Time to process one item", tags, histograms);
+        this.writeTimer = timer(registry, prefix + ".write", "Time to write one chunk", tags, histograms);
+        this.chunkTimer = timer(registry, prefix + ".chunk", "Time of a whole chunk, commit included", tags, histograms);
+        this.commitTimer = timer(registry, prefix + ".commit", "Time from the end of the write to the end of the chunk", tags, histograms);
+        this.readerLagTimer = timer(registry, prefix + ".reader.lag", "Time a chunk spent waiting on the reader", tags, histograms);
+        this.backOffTimer = timer(registry, prefix + ".retry.backoff", "Time waited before retrying a failed attempt", tags, histograms);
+        this.readCount = counter(registry, prefix + ".items", tags.and("phase", "read"));
+        this.filterCount = counter(registry, prefix + ".items", tags.and("phase", "filtered"));
+        this.writeCount = counter(registry, prefix + ".items", tags.and("phase", "written"));
+        this.readSkips = counter(registry, prefix + ".skips", tags.and("phase", "read"));
+        this.processSkips = counter(registry, prefix + ".skips", tags.and("phase", "process"));
+        this.writeSkips = counter(registry, prefix + ".skips", tags.and("phase", "write"));
+        this.rollbacks = counter(registry, prefix + ".rollbacks", tags);
+        this.throughput = throughput;
+    }
+
+    /**
+     * Returns the timer of the retry back-off waits, recorded by the step's back-off sleeper.
+     */
+    public Timer getBackOffTimer() {
+        return backOffTimer;
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, Tags tags, boolean histograms) {
+        return Timer.builder(name).description(description).tags(tags).publishPercentileHistogram(histograms).register(registry);
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, Tags tags) {
+        return Counter.builder(name).tags(tags).register(registry);
+    }
+
+    // --- Chunk ---
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkTimings chunk = timings.get();
+        chunk.chunkStart = System.nanoTime();
+        chunk.readNanos = 0;
+        chunk.writeEnd = 0;
+        chunk.written = 0;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        ChunkTimings chunk = timings.get();
+        long end = System.nanoTime();
+        long duration = end - chunk.chunkStart;
+        chunkTimer.record(duration, TimeUnit.NANOSECONDS);
+        readerLagTimer.record(chunk.readNanos, TimeUnit.NANOSECONDS);
+        if (chunk.writeEnd != 0) {
+            commitTimer.record(end - chunk.writeEnd, TimeUnit.NANOSECONDS);
+        }
+        // The last chunk of a step reads nothing: keep the rate of the previous one
+        if (chunk.written > 0 && duration > 0) {
+            throughput.set(Double.doubleToLongBits(chunk.written * 1e9 / duration));
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        rollbacks.increment();
+    }
+
+    // --- Read ---
+
+    @Override
+    public void beforeRead() {
+        timings.get().readStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        ChunkTimings chunk = timings.get();
+        long nanos = System.nanoTime() - chunk.readStart;
+        chunk.readNanos += nanos;
+        readTimer.record(nanos, TimeUnit.NANOSECONDS);
+        readCount.increment();
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        ChunkTimings chunk = timings.get();
+        chunk.readNanos += System.nanoTime() - chunk.readStart;
+    }
+
+    // --- Process ---
+
+    @Override
+    public void beforeProcess(Object item) {
+        timings.get().processStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        processTimer.record(System.nanoTime() - timings.get().processStart, TimeUnit.NANOSECONDS);
+        if (result == null) {
+            filterCount.increment();
+        }
+    }
+
+    // --- Write ---
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        timings.get().writeStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        ChunkTimings chunk = timings.get();
+        chunk.writeEnd = System.nanoTime();
+        chunk.written += items.size();
+        writeTimer.record(chunk.writeEnd - chunk.writeStart, TimeUnit.NANOSECONDS);
+        writeCount.increment(items.size());
+    }
+
+    // --- Skip ---
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        readSkips.increment();
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        processSkips.increment();
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        writeSkips.increment();
+    }
+
+    private static final class ChunkTimings {
+        private long chunkStart;
+        private long readStart;
+        private long readNanos;
+        private long processStart;
+        private long writeStart;
+        private long writeEnd;
+        private long written;
+    }
+}
@@ -0,0 +1,141 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.partition;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.batch.PartitionConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.reader.JdbcPagingReaderConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.utils.SqlClauseUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link Partitioner} that splits a paging reader input into contiguous ranges of a numeric or date column.
+ *
+ * <p>Bounds are computed at runtime with a single {@code SELECT MIN/MAX} over the reader's FROM/WHERE clauses.
+ * Every range is half-open ({@code >= min AND < max}) except the last one, which includes the max value.
+ * Rows with a NULL range column are never assigned to a partition.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ColumnRangePartitioner implements Partitioner {
+
+    public static final String COLUMN_KEY = "partition.column";
+    public static final String MIN_VALUE_KEY = "partition.minValue";
+    public static final String MAX_VALUE_KEY = "partition.maxValue";
+    public static final String LAST_RANGE_KEY = "partition.lastRange";
+
+    private final DataSource dataSource;
+    private final JdbcPagingReaderConfig readerConfig;
+    private final PartitionConfig partitionConfig;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        String column = partitionConfig.getColumn();
+        StringBuilder sql = new StringBuilder("SELECT MIN(").append(column).append(") AS min_value, MAX(")
+                .append(column).append(") AS max_value FROM ")
+                .append(SqlClauseUtils.removeKeyword("FROM", readerConfig.getClause().getFromClause()));
+        if (StringUtils.hasText(readerConfig.getClause().getWhereClause())) {
+            sql.append(" WHERE ").append(SqlClauseUtils.removeKeyword("WHERE", readerConfig.getClause().getWhereClause()));
+        }
+        log.debug("Computing partition bounds with query: {}", sql);
+
+        Map<String, Object> parameters = readerConfig.getParameters() != null
+                ? readerConfig.getParameters()
+                : new HashMap<>();
+        Map<String, Object> bounds = new NamedParameterJdbcTemplate(dataSource).queryForMap(sql.toString(), parameters);
+
+        Map<String, ExecutionContext> partitions = switch (partitionConfig.getColumnType()) {
+            case NUMBER -> splitNumbers((Number) bounds.get("min_value"), (Number) bounds.get("max_value"), gridSize);
+            case DATE -> splitDates(toTimestamp(bounds.get("min_value")), toTimestamp(bounds.get("max_value")), gridSize);
+        };
+
+        log.info("Column '{}' split into {} partitions (requested gridSize={})", column, partitions.size(), gridSize);
+        return partitions;
+    }
+
+    private Map<String, ExecutionContext> splitNumbers(Number min, Number max, int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (min == null || max == null) {
+            log.warn("No rows with a value for column '{}': creating a single empty partition", partitionConfig.getColumn());
+            partitions.put("partition0", createContext(0L, 0L, false));
+            return partitions;
+        }
+
+        long lower = (long) Math.floor(min.doubleValue());
+        long upper = (long) Math.ceil(max.doubleValue());
+        long rangeSize = Math.max(1L, (upper - lower) / gridSize + 1);
+
+        long start = lower;
+        for (int i = 0; ; i++) {
+            long end = start + rangeSize;
+            if (end >= upper) {
+                partitions.put("partition" + i, createContext(start, upper, true));
+                break;
+            }
+            partitions.put("partition" + i, createContext(start, end, false));
+            start = end;
+        }
+        return partitions;
+    }
+
+    private Map<String, ExecutionContext> splitDates(Timestamp min, Timestamp max, int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (min == null || max == null) {
+            log.warn("No rows with a value for column '{}': creating a single empty partition", partitionConfig.getColumn());
+            Timestamp epoch = new Timestamp(0L);
+            partitions.put("partition0", createContext(epoch, epoch, false));
+            return partitions;
+        }
+
+        long lower = min.getTime();
+        long upper = max.getTime();
+        long rangeSize = Math.max(1L, (upper - lower) / gridSize + 1);
+
+        long start = lower;
+        for (int i = 0; ; i++) {
+            long end = start + rangeSize;
+            if (end >= upper) {
+                partitions.put("partition" + i, createContext(new Timestamp(start), max, true));
+                break;
+            }
+            partitions.put("partition" + i, createContext(new Timestamp(start), new Timestamp(end), false));
+            start = end;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext createContext(Object minValue, Object maxValue, boolean lastRange) {
+        ExecutionContext context = new ExecutionContext();
+        context.putString(COLUMN_KEY, partitionConfig.getColumn());
+        context.put(MIN_VALUE_KEY, minValue);
+        context.put(MAX_VALUE_KEY, maxValue);
+        context.put(LAST_RANGE_KEY, lastRange);
+        log.debug("Created partition range [{}, {}{} on column '{}'", minValue, maxValue, lastRange ? "]" : ")",
+                partitionConfig.getColumn());
+        return context;
+    }
+
+    private Timestamp toTimestamp(Object value) {
+        if (value == null || value instanceof Timestamp) {
+            return (Timestamp) value;
+        }
+        if (value instanceof java.util.Date date) {
+            return new Timestamp(date.getTime());
+        }
+        if (value instanceof java.time.LocalDateTime dateTime) {
+            return Timestamp.valueOf(dateTime);
+        }
+        if (value instanceof java.time.LocalDate date) {
+            return Timestamp.valueOf(date.atStartOfDay());
+        }
+        throw new IllegalArgumentException("Unsupported DATE partition value type: " + value.getClass().getName());
+    }
+}
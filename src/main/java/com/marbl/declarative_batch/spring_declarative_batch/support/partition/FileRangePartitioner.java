@@ -0,0 +1,99 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link Partitioner} that splits a single flat file into contiguous byte ranges.
+ *
+ * <p>The first {@code linesToSkip} lines are excluded once, then the rest of the file is cut into
+ * {@code gridSize} ranges of similar size, each boundary moved forward to the start of the next line.
+ * Every range is half-open ({@code >= start AND < end}); empty ranges are dropped. Records spanning
+ * several lines (quoted line breaks) are not supported, as with the default flat file record separator.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FileRangePartitioner implements Partitioner {
+
+    public static final String START_OFFSET_KEY = "partition.startOffset";
+    public static final String END_OFFSET_KEY = "partition.endOffset";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path path;
+    private final int linesToSkip;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = skipLines(channel, 0, linesToSkip);
+            long rangeSize = Math.max(1L, (size - dataStart + gridSize - 1) / gridSize);
+            log.debug("Splitting file '{}' ({} bytes, data from offset {}) into ranges of ~{} bytes",
+                    path, size, dataStart, rangeSize);
+
+            Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+            long start = dataStart;
+            while (start < size) {
+                long end = start + rangeSize >= size
+                        ? size
+                        : skipLines(channel, start + rangeSize - 1, 1);
+                partitions.put("partition" + partitions.size(), createContext(start, end));
+                start = end;
+            }
+
+            if (partitions.isEmpty()) {
+                log.warn("File '{}' has no data lines: creating a single empty partition", path);
+                partitions.put("partition0", createContext(size, size));
+            }
+
+            log.info("File '{}' split into {} partitions (requested gridSize={})", path, partitions.size(), gridSize);
+            return partitions;
+
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to compute partitions of file: " + path, e);
+        }
+    }
+
+    /**
+     * Returns the offset following the {@code lines}-th line break found from {@code offset}, or the file size.
+     */
+    private long skipLines(FileChannel channel, long offset, int lines) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = offset;
+        int remaining = lines;
+        while (remaining > 0) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n' && --remaining == 0) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return position;
+    }
+
+    private ExecutionContext createContext(long start, long end) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(START_OFFSET_KEY, start);
+        context.putLong(END_OFFSET_KEY, end);
+        log.debug("Created partition byte range [{}, {}) of file '{}'", start, end, path);
+        return context;
+    }
+}
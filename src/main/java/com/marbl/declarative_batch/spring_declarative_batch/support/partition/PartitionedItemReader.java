@@ -0,0 +1,62 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.util.function.Function;
+
+/**
+ * Reader shared by all the worker executions of a partitioned step.
+ *
+ * <p>Each partition runs on its own thread, so the delegate is created in {@link #open(ExecutionContext)}
+ * from the worker step ExecutionContext (which carries the partition keys) and bound to the current thread,
+ * the same way a step-scoped reader would be.</p>
+ *
+ * @param <T> the item type
+ */
+@RequiredArgsConstructor
+public class PartitionedItemReader<T> implements ItemStreamReader<T> {
+
+    private final Function<ExecutionContext, ItemStreamReader<T>> readerFactory;
+    private final ThreadLocal<ItemStreamReader<T>> current = new ThreadLocal<>();
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        ItemStreamReader<T> delegate = readerFactory.apply(executionContext);
+        delegate.open(executionContext);
+        current.set(delegate);
+    }
+
+    @Override
+    public T read() throws Exception {
+        return delegate().read();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate().update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        ItemStreamReader<T> delegate = current.get();
+        if (delegate == null) {
+            return;
+        }
+        try {
+            delegate.close();
+        } finally {
+            current.remove();
+        }
+    }
+
+    private ItemStreamReader<T> delegate() {
+        ItemStreamReader<T> delegate = current.get();
+        if (delegate == null) {
+            throw new IllegalStateException("Partitioned reader has not been opened on thread " + Thread.currentThread().getName());
+        }
+        return delegate;
+    }
+}
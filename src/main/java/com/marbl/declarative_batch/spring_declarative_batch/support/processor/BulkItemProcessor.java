@@ -0,0 +1,42 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.processor;
+
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.List;
+
+/**
+ * {@link ItemProcessor} able to process a whole chunk in one call, e.g. with a single {@code WHERE id IN (...)}
+ * query or one batched remote call.
+ *
+ * <p>Chunk steps call {@link #processAll(List)} once per chunk with all the items read; if it fails the items are
+ * processed again one at a time through {@link #process(Object)}, so that skip and retry still apply to the
+ * single failing item. Implementations are discovered through {@code @BulkBatchProcessor} and returned from
+ * a steplet like any other processor.</p>
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ */
+public interface BulkItemProcessor<I, O> extends ItemProcessor<I, O> {
+
+    /**
+     * Processes a list of items.
+     *
+     * @param items the items, in read order
+     * @return one result per item, in the same order; a {@code null} element filters the corresponding item
+     * @throws Exception if the items cannot be processed
+     */
+    List<O> processAll(List<? extends I> items) throws Exception;
+
+    /**
+     * Processes a single item as a list of one.
+     */
+    @Override
+    default O process(I item) throws Exception {
+        List<O> results = processAll(List.of(item));
+        if (results == null || results.size() != 1) {
+            throw new IllegalStateException("BulkItemProcessor must return exactly one result per item, got "
+                    + (results == null ? "null" : results.size()) + " for 1 item");
+        }
+        return results.get(0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.processor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plugs a {@link BulkItemProcessor} into the per-item chunk pipeline.
+ *
+ * <p>As a read listener it collects the items of the current chunk; the first {@link #process(Object)} call of the
+ * chunk hands all of them to {@link BulkItemProcessor#processAll(List)} and the following calls return the
+ * precomputed results. If the bulk call fails, or an item was not collected (e.g. when a chunk is processed
+ * again after a rollback), items are processed one at a time, so the step's skip and retry policies see the
+ * single failing item. State is kept per thread, which matches multi-threaded chunk steps where each chunk is
+ * read and processed by one thread.</p>
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ */
+@Slf4j
+public class BulkItemProcessorAdapter<I, O> implements ItemProcessor<I, O>, ItemReadListener<I>, ChunkListener {
+
+    private final BulkItemProcessor<I, O> delegate;
+
+    private final ThreadLocal<ChunkState<I>> state = ThreadLocal.withInitial(ChunkState::new);
+
+    public BulkItemProcessorAdapter(BulkItemProcessor<I, O> delegate) {
+        this.delegate = delegate;
+    }
+
+    public BulkItemProcessor<I, O> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void afterRead(I item) {
+        state.get().items.add(item);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public O process(I item) throws Exception {
+        ChunkState<I> chunk = state.get();
+        if (chunk.results == null && !chunk.items.isEmpty()) {
+            chunk.results = processAll(chunk.items);
+        }
+        if (chunk.results != null && chunk.results.containsKey(item)) {
+            return (O) chunk.results.get(item);
+        }
+        return delegate.process(item);
+    }
+
+    private Map<Object, Object> processAll(List<I> items) {
+        Map<Object, Object> results = new IdentityHashMap<>(items.size() * 2);
+        try {
+            List<O> outputs = delegate.processAll(items);
+            if (outputs == null || outputs.size() != items.size()) {
+                throw new IllegalStateException("BulkItemProcessor must return exactly one result per item, got "
+                        + (outputs == null ? "null" : outputs.size()) + " for " + items.size() + " items");
+            }
+            for (int i = 0; i < items.size(); i++) {
+                results.put(items.get(i), outputs.get(i));
+            }
+        } catch (Exception e) {
+            // Leave the results empty: every item goes through the per-item path
+            log.warn("Bulk processing of {} items failed, falling back to per-item processing: {}", items.size(), e.getMessage());
+            log.debug("Bulk processing failure", e);
+            results.clear();
+        }
+        return results;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        state.remove();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        state.remove();
+    }
+
+    private static final class ChunkState<I> {
+        private final List<I> items = new ArrayList<>();
+        private Map<Object, Object> results;
+    }
+}
@@ -0,0 +1,91 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.processor;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash index from primitive {@code long} keys to row numbers, without boxing.
+ * The first row added for a key wins. Not thread-safe for writes; lookups are safe once loaded.
+ */
+final class LongIndex {
+
+    private static final int NO_ROW = -1;
+
+    private long[] keys;
+    private int[] rows;
+    private int mask;
+    private int size;
+
+    LongIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Associates a key with a row number, unless the key is already present.
+     *
+     * @return {@code true} if the key was added
+     */
+    boolean put(long key, int row) {
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        int slot = slot(key);
+        while (rows[slot] != NO_ROW) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        rows[slot] = row;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns the row number of a key, or {@code -1} if absent.
+     */
+    int get(long key) {
+        int slot = slot(key);
+        int row;
+        while ((row = rows[slot]) != NO_ROW) {
+            if (keys[slot] == key) {
+                return row;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_ROW;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        // MurmurHash3 finalizer, spreads sequential keys over the table
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        rows = new int[capacity];
+        Arrays.fill(rows, NO_ROW);
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldRows = rows;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldRows[i] != NO_ROW) {
+                put(oldKeys[i], oldRows[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.processor;
+
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.processor.LookupProcessorConfig.MissingKeyPolicy;
+import com.marbl.declarative_batch.spring_declarative_batch.support.mapping.LambdaFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import javax.sql.DataSource;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link ItemProcessor} enriching items from a reference table loaded once per step execution.
+ *
+ * <p>The reference query is read when the step starts into a hash index: integral key columns use a
+ * primitive {@code long} index, other keys are indexed by their string value. The value rows are kept on the
+ * heap or, for large tables, serialized in direct memory. Each item is then enriched by looking up its key
+ * property and copying the configured columns into its properties, converted to the property types; the
+ * table is released when the step ends.</p>
+ *
+ * <p>Lookups are read-only and safe from concurrent chunks or async processing. Items must be mutable
+ * JavaBeans.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class LookupItemProcessor<T> implements ItemProcessor<T, T>, StepExecutionListener {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+    private final String name;
+    private final DataSource dataSource;
+    private final String sql;
+    private final String keyColumn;
+    private final String keyProperty;
+    private final String[] columns;
+    private final String[] properties;
+    private final MissingKeyPolicy onMissing;
+    private final boolean offHeap;
+
+    private int activeSteps;
+    private volatile Table table;
+    private volatile Binding<T> binding;
+
+    /**
+     * @param fields column to item property, in the order the values are copied
+     */
+    public LookupItemProcessor(String name, DataSource dataSource, String sql, String keyColumn, String keyProperty,
+                               Map<String, String> fields, MissingKeyPolicy onMissing, boolean offHeap) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.sql = sql;
+        this.keyColumn = keyColumn;
+        this.keyProperty = keyProperty;
+        this.columns = fields.keySet().toArray(String[]::new);
+        this.properties = fields.values().toArray(String[]::new);
+        this.onMissing = onMissing;
+        this.offHeap = offHeap;
+    }
+
+    // -------------------------
+    // Lifecycle
+    // -------------------------
+
+    /**
+     * Loads the reference table, unless a concurrent execution of the step (e.g. a partition) already did.
+     */
+    @Override
+    public synchronized void beforeStep(StepExecution stepExecution) {
+        if (activeSteps == 0) {
+            long start = System.nanoTime();
+            table = load();
+            log.info("Lookup '{}' loaded {} rows ({} keys, {}) in {} ms", name, table.rows().size(),
+                    table.isNumeric() ? "numeric" : "string", offHeap ? "off-heap" : "heap",
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        activeSteps++;
+    }
+
+    @Override
+    public synchronized ExitStatus afterStep(StepExecution stepExecution) {
+        if (activeSteps > 0 && --activeSteps == 0 && table != null) {
+            table.rows().clear();
+            table = null;
+            log.debug("Lookup '{}' released", name);
+        }
+        return null;
+    }
+
+    private Table load() {
+        Table[] loaded = new Table[1];
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(FETCH_SIZE);
+        jdbcTemplate.query(sql, rs -> {
+            if (loaded[0] == null) {
+                loaded[0] = createTable(rs.getMetaData());
+            }
+            loaded[0].add(rs);
+        });
+        if (loaded[0] == null) {
+            log.warn("Lookup '{}' query returned no rows", name);
+            return new Table(-1, new int[0], false, new LongIndex(0), null, new RowStore.Heap());
+        }
+        return loaded[0];
+    }
+
+    private Table createTable(ResultSetMetaData metaData) throws SQLException {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            indexes.putIfAbsent(JdbcUtils.lookupColumnName(metaData, i).toLowerCase(), i);
+        }
+
+        int keyIndex = keyColumn != null ? columnIndex(indexes, keyColumn) : 1;
+        int[] valueIndexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            valueIndexes[i] = columnIndex(indexes, columns[i]);
+        }
+
+        int keyType = metaData.getColumnType(keyIndex);
+        boolean numeric = keyType == Types.BIGINT || keyType == Types.INTEGER || keyType == Types.SMALLINT
+                || keyType == Types.TINYINT
+                || ((keyType == Types.NUMERIC || keyType == Types.DECIMAL) && metaData.getScale(keyIndex) == 0);
+        return new Table(keyIndex, valueIndexes, numeric, numeric ? new LongIndex(FETCH_SIZE) : null,
+                numeric ? null : new HashMap<>(), offHeap ? new OffHeapRowStore() : new RowStore.Heap());
+    }
+
+    private int columnIndex(Map<String, Integer> indexes, String column) {
+        Integer index = indexes.get(column.toLowerCase());
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("Lookup '%s': column '%s' is not returned by the query, available: %s",
+                    name, column, indexes.keySet()));
+        }
+        return index;
+    }
+
+    // -------------------------
+    // Processing
+    // -------------------------
+
+    @Override
+    public T process(T item) {
+        Table current = table;
+        if (current == null) {
+            throw new IllegalStateException("Lookup '" + name + "' is not loaded: the processor must run inside a step");
+        }
+
+        Binding<T> bound = bindingFor(item);
+        int row = current.isNumeric() ? lookupNumeric(current, bound, item) : lookupString(current, bound, item);
+        if (row < 0) {
+            return switch (onMissing) {
+                case KEEP -> item;
+                case FILTER -> null;
+                case FAIL -> throw new IllegalStateException(String.format("Lookup '%s': no row for key '%s' of %s",
+                        name, bound.key().apply(item), item));
+            };
+        }
+
+        Object[] values = current.rows().get(row);
+        for (int i = 0; i < values.length; i++) {
+            bound.setters()[i].accept(item, values[i]);
+        }
+        return item;
+    }
+
+    private int lookupNumeric(Table current, Binding<T> bound, T item) {
+        if (bound.numericKey() != null) {
+            return current.longIndex().get(bound.numericKey().applyAsLong(item));
+        }
+        Object key = bound.key().apply(item);
+        if (key == null) {
+            return -1;
+        }
+        if (key instanceof Number number) {
+            return current.longIndex().get(number.longValue());
+        }
+        try {
+            return current.longIndex().get(Long.parseLong(key.toString().trim()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private int lookupString(Table current, Binding<T> bound, T item) {
+        Object key = bound.key().apply(item);
+        Integer row = key != null ? current.objectIndex().get(key.toString()) : null;
+        return row != null ? row : -1;
+    }
+
+    // -------------------------
+    // Item accessors
+    // -------------------------
+
+    private Binding<T> bindingFor(T item) {
+        Binding<T> current = binding;
+        if (current == null || current.type() != item.getClass()) {
+            current = bind(item.getClass());
+            binding = current;
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Binding<T> bind(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = LambdaFactory.lookupFor(type);
+
+            PropertyDescriptor keyDescriptor = descriptor(type, keyProperty);
+            if (keyDescriptor.getReadMethod() == null) {
+                throw new IllegalArgumentException("Key property '" + keyProperty + "' of " + type.getName() + " is not readable");
+            }
+            MethodHandle getter = lookup.unreflect(keyDescriptor.getReadMethod());
+            Class<?> keyType = keyDescriptor.getPropertyType();
+            ToLongFunction<T> numericKey = null;
+            if (keyType == long.class || keyType == int.class || keyType == short.class) {
+                numericKey = LambdaFactory.create(lookup, getter, ToLongFunction.class, "applyAsLong",
+                        MethodType.methodType(long.class, Object.class),
+                        MethodType.methodType(long.class, type));
+            }
+            Function<T, Object> key = LambdaFactory.create(lookup, getter, Function.class, "apply",
+                    MethodType.methodType(Object.class, Object.class),
+                    MethodType.methodType(MethodType.methodType(keyType).wrap().returnType(), type));
+
+            @SuppressWarnings("unchecked")
+            BiConsumer<T, Object>[] setters = (BiConsumer<T, Object>[]) new BiConsumer<?, ?>[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                setters[i] = setter(lookup, type, properties[i]);
+            }
+
+            log.debug("Lookup '{}' bound to {} (key '{}', fields {})", name, type.getName(), keyProperty, String.join(",", properties));
+            return new Binding<>(type, numericKey, key, setters);
+
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(String.format("Lookup '%s': cannot bind properties of %s: %s",
+                    name, type.getName(), e.getMessage()), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BiConsumer<T, Object> setter(MethodHandles.Lookup lookup, Class<?> type, String property) throws Throwable {
+        PropertyDescriptor descriptor = descriptor(type, property);
+        if (descriptor.getWriteMethod() == null) {
+            throw new IllegalArgumentException("Property '" + property + "' of " + type.getName() + " is not writable");
+        }
+        MethodHandle handle = lookup.unreflect(descriptor.getWriteMethod());
+        Class<?> propertyType = descriptor.getPropertyType();
+        Class<?> boxed = MethodType.methodType(propertyType).wrap().returnType();
+
+        // Setters returning a value (fluent style) are adapted to void
+        MethodType instantiated = handle.type().changeReturnType(void.class).changeParameterType(1, boxed);
+        BiConsumer<T, Object> consumer = LambdaFactory.create(lookup, handle, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class), instantiated);
+
+        boolean primitive = propertyType.isPrimitive();
+        return (item, value) -> {
+            if (value == null) {
+                if (!primitive) {
+                    consumer.accept(item, null);
+                }
+            } else {
+                consumer.accept(item, boxed.isInstance(value) ? value : conversionService.convert(value, boxed));
+            }
+        };
+    }
+
+    private static PropertyDescriptor descriptor(Class<?> type, String property) {
+        if (type.isRecord()) {
+            throw new IllegalArgumentException("Records cannot be enriched, " + type.getName() + " is immutable");
+        }
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+        if (descriptor == null) {
+            throw new IllegalArgumentException("Property '" + property + "' not found on " + type.getName());
+        }
+        return descriptor;
+    }
+
+    /**
+     * Loaded reference table: key index and value rows.
+     */
+    private record Table(int keyIndex, int[] valueIndexes, boolean isNumeric, LongIndex longIndex,
+                         Map<String, Integer> objectIndex, RowStore rows) {
+
+        void add(ResultSet rs) throws SQLException {
+            Object[] values = new Object[valueIndexes.length];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = value(rs.getObject(valueIndexes[i]));
+            }
+
+            boolean added;
+            if (isNumeric) {
+                long key = rs.getLong(keyIndex);
+                added = !rs.wasNull() && longIndex.get(key) < 0 && longIndex.put(key, rows.add(values));
+            } else {
+                String key = rs.getString(keyIndex);
+                added = key != null && !objectIndex.containsKey(key) && objectIndex.put(key, rows.add(values)) == null;
+            }
+            if (!added) {
+                log.debug("Skipped lookup row with null or duplicate key at row {}", rs.getRow());
+            }
+        }
+
+        private static Object value(Object value) {
+            // JDBC temporal types are normalized to java.time, as expected by DTO properties
+            if (value instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime();
+            } else if (value instanceof java.sql.Date date) {
+                return date.toLocalDate();
+            } else if (value instanceof Time time) {
+                return time.toLocalTime();
+            }
+            return value;
+        }
+    }
+
+    private record Binding<T>(Class<?> type, ToLongFunction<T> numericKey, Function<T, Object> key,
+                              BiConsumer<T, Object>[] setters) {
+    }
+}
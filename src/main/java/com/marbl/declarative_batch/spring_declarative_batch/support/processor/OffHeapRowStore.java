@@ -0,0 +1,162 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.processor;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link RowStore} that serializes the rows into direct memory segments, keeping only one {@code long}
+ * per row on the heap.
+ *
+ * <p>Strings, integral and floating point numbers, BigDecimal, Boolean, LocalDate, LocalDateTime and
+ * LocalTime keep their type; any other value is stored as its {@code toString()}. Rows are decoded on
+ * every {@link #get(int)}, which is safe from concurrent readers once loading is complete.</p>
+ */
+final class OffHeapRowStore implements RowStore {
+
+    static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte DECIMAL = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte DATE = 7;
+    private static final byte DATE_TIME = 8;
+    private static final byte TIME = 9;
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private long[] locations = new long[1024];
+    private int size;
+    private ByteBuffer scratch = ByteBuffer.allocate(1024);
+
+    @Override
+    public int add(Object[] values) {
+        scratch.clear();
+        scratch = ensure(scratch, 2);
+        scratch.putShort((short) values.length);
+        for (Object value : values) {
+            scratch = encode(scratch, value);
+        }
+        scratch.flip();
+
+        ByteBuffer segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.remaining() < scratch.remaining()) {
+            segment = ByteBuffer.allocateDirect(Math.max(SEGMENT_SIZE, scratch.remaining()));
+            segments.add(segment);
+        }
+        long location = ((long) (segments.size() - 1) << 32) | segment.position();
+        segment.put(scratch);
+
+        if (size == locations.length) {
+            locations = Arrays.copyOf(locations, size * 2);
+        }
+        locations[size] = location;
+        return size++;
+    }
+
+    @Override
+    public Object[] get(int row) {
+        long location = locations[row];
+        // Absolute reads on a duplicate, so that concurrent lookups do not share a position
+        ByteBuffer buffer = segments.get((int) (location >>> 32)).duplicate();
+        buffer.position((int) location);
+
+        Object[] values = new Object[buffer.getShort()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = decode(buffer);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        segments.clear();
+        locations = new long[1024];
+        size = 0;
+    }
+
+    private static ByteBuffer encode(ByteBuffer buffer, Object value) {
+        if (value == null) {
+            buffer = ensure(buffer, 1);
+            buffer.put(NULL);
+        } else if (value instanceof Long || value instanceof Short || value instanceof Byte) {
+            buffer = ensure(buffer, 9);
+            buffer.put(LONG).putLong(((Number) value).longValue());
+        } else if (value instanceof Integer number) {
+            buffer = ensure(buffer, 5);
+            buffer.put(INTEGER).putInt(number);
+        } else if (value instanceof Double || value instanceof Float) {
+            buffer = ensure(buffer, 9);
+            buffer.put(DOUBLE).putDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean bool) {
+            buffer = ensure(buffer, 2);
+            buffer.put(BOOLEAN).put((byte) (bool ? 1 : 0));
+        } else if (value instanceof LocalDate date) {
+            buffer = ensure(buffer, 9);
+            buffer.put(DATE).putLong(date.toEpochDay());
+        } else if (value instanceof LocalDateTime dateTime) {
+            buffer = ensure(buffer, 17);
+            buffer.put(DATE_TIME).putLong(dateTime.toLocalDate().toEpochDay()).putLong(dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof LocalTime time) {
+            buffer = ensure(buffer, 9);
+            buffer.put(TIME).putLong(time.toNanoOfDay());
+        } else if (value instanceof BigDecimal decimal) {
+            buffer = encodeText(buffer, DECIMAL, decimal.toString());
+        } else {
+            buffer = encodeText(buffer, STRING, value.toString());
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer encodeText(ByteBuffer buffer, byte tag, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        buffer = ensure(buffer, 5 + bytes.length);
+        return buffer.put(tag).putInt(bytes.length).put(bytes);
+    }
+
+    private static Object decode(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        return switch (tag) {
+            case NULL -> null;
+            case LONG -> buffer.getLong();
+            case INTEGER -> buffer.getInt();
+            case DOUBLE -> buffer.getDouble();
+            case BOOLEAN -> buffer.get() != 0;
+            case DATE -> LocalDate.ofEpochDay(buffer.getLong());
+            case DATE_TIME -> LocalDateTime.of(LocalDate.ofEpochDay(buffer.getLong()), LocalTime.ofNanoOfDay(buffer.getLong()));
+            case TIME -> LocalTime.ofNanoOfDay(buffer.getLong());
+            case DECIMAL -> new BigDecimal(decodeText(buffer));
+            case STRING -> decodeText(buffer);
+            default -> throw new IllegalStateException("Corrupted off-heap row, unknown tag " + tag);
+        };
+    }
+
+    private static String decodeText(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer ensure(ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+        buffer.flip();
+        return larger.put(buffer);
+    }
+}
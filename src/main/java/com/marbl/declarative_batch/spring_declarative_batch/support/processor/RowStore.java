@@ -0,0 +1,53 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only storage of the value rows of a lookup table, addressed by row number.
+ */
+interface RowStore {
+
+    /**
+     * Stores a row and returns its number.
+     */
+    int add(Object[] values);
+
+    Object[] get(int row);
+
+    int size();
+
+    /**
+     * Releases the stored rows.
+     */
+    void clear();
+
+    /**
+     * Rows kept as object arrays on the heap.
+     */
+    final class Heap implements RowStore {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public int add(Object[] values) {
+            rows.add(values);
+            return rows.size() - 1;
+        }
+
+        @Override
+        public Object[] get(int row) {
+            return rows.get(row);
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+
+        @Override
+        public void clear() {
+            rows.clear();
+        }
+    }
+}
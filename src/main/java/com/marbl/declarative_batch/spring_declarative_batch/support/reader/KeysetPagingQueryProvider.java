@@ -0,0 +1,153 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.reader;
+
+import com.marbl.declarative_batch.spring_declarative_batch.model.SortKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.PagingQueryProvider;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link PagingQueryProvider} whose pages after the first one are selected with a keyset predicate on the
+ * ordered sort keys, so that every query can seek through the index of a (composite) key.
+ *
+ * <p>Both queries are generated by dialect providers: the first page by a provider with the configured
+ * where clause (optionally restricted to the rows after a start key), the following pages by a provider
+ * whose where clause also holds the keyset predicate. The predicate is a row-value comparison
+ * ({@code (a, b) > (:_a, :_b)}) when the dialect supports it and all keys share the same direction,
+ * otherwise its expanded form ({@code a > :_a OR (a = :_a AND b > :_b)}). Parameters are always named,
+ * with the {@code _<key>} names bound by {@code JdbcPagingItemReader} to the last row read. A key qualified
+ * by a table alias ({@code t.id}) keeps its alias in the predicate and the sort clause, while its parameter
+ * and the column read back from the result set use the unqualified name ({@code :_id}).</p>
+ */
+@Slf4j
+public class KeysetPagingQueryProvider implements PagingQueryProvider {
+
+    /**
+     * Prefix of the named parameters holding the {@code startAfter} key values.
+     */
+    private static final String START_AFTER_PREFIX = "startAfter_";
+
+    private static final String LAST_ROW_PREFIX = "_";
+
+    private final PagingQueryProvider firstPage;
+    private final PagingQueryProvider remainingPages;
+    private final Map<String, Order> sortKeys;
+
+    /**
+     * @param firstPage      provider generating the first page query
+     * @param remainingPages provider generating, as its first page, the query of the following pages
+     * @param sortKeys       the ordered sort keys
+     */
+    public KeysetPagingQueryProvider(PagingQueryProvider firstPage, PagingQueryProvider remainingPages,
+                                     Map<String, Order> sortKeys) {
+        this.firstPage = firstPage;
+        this.remainingPages = remainingPages;
+        this.sortKeys = new LinkedHashMap<>();
+        sortKeys.forEach((key, order) -> this.sortKeys.put(removeAlias(key), order));
+    }
+
+    /**
+     * Returns the name of the parameter holding the {@code startAfter} value of a sort key.
+     */
+    public static String startAfterParameter(String key) {
+        return START_AFTER_PREFIX + removeAlias(key);
+    }
+
+    /**
+     * Returns the predicate selecting the rows after the key bound to the {@code :_<key>} parameters.
+     */
+    public static String remainingPagesPredicate(List<SortKey> keys, boolean rowValue) {
+        return predicate(keys, LAST_ROW_PREFIX, rowValue);
+    }
+
+    /**
+     * Returns the predicate selecting the rows after the key bound to the {@link #START_AFTER_PREFIX} parameters.
+     */
+    public static String startAfterPredicate(List<SortKey> keys, boolean rowValue) {
+        return predicate(keys, START_AFTER_PREFIX, rowValue);
+    }
+
+    private static String predicate(List<SortKey> keys, String prefix, boolean rowValue) {
+        if (rowValue) {
+            String operator = keys.get(0).getOrder() == Order.DESCENDING ? " < " : " > ";
+            return keys.stream().map(SortKey::getKey).collect(Collectors.joining(", ", "(", ")"))
+                    + operator
+                    + keys.stream().map(key -> ":" + prefix + removeAlias(key.getKey())).collect(Collectors.joining(", ", "(", ")"));
+        }
+
+        // (k1 > :k1) OR (k1 = :k1 AND k2 > :k2) OR ...
+        StringBuilder predicate = new StringBuilder("(");
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                predicate.append(" OR ");
+            }
+            predicate.append('(');
+            for (int j = 0; j < i; j++) {
+                predicate.append(keys.get(j).getKey()).append(" = :").append(prefix).append(removeAlias(keys.get(j).getKey())).append(" AND ");
+            }
+            SortKey key = keys.get(i);
+            predicate.append(key.getKey())
+                    .append(key.getOrder() == Order.DESCENDING ? " < :" : " > :")
+                    .append(prefix).append(removeAlias(key.getKey()))
+                    .append(')');
+        }
+        return predicate.append(')').toString();
+    }
+
+    /**
+     * Removes the table alias of a sort key, as {@code AbstractSqlPagingQueryProvider} does.
+     */
+    private static String removeAlias(String key) {
+        return key.substring(key.indexOf('.') + 1);
+    }
+
+    @Override
+    public void init(DataSource dataSource) throws Exception {
+        firstPage.init(dataSource);
+        remainingPages.init(dataSource);
+    }
+
+    @Override
+    public String generateFirstPageQuery(int pageSize) {
+        String query = firstPage.generateFirstPageQuery(pageSize);
+        log.debug("Keyset first page query: {}", query);
+        return query;
+    }
+
+    @Override
+    public String generateRemainingPagesQuery(int pageSize) {
+        String query = remainingPages.generateFirstPageQuery(pageSize);
+        log.debug("Keyset remaining pages query: {}", query);
+        return query;
+    }
+
+    @Override
+    public int getParameterCount() {
+        return remainingPages.getParameterCount();
+    }
+
+    @Override
+    public boolean isUsingNamedParameters() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Order> getSortKeys() {
+        return new LinkedHashMap<>(sortKeys);
+    }
+
+    @Override
+    public String getSortKeyPlaceHolder(String keyName) {
+        return ":" + LAST_ROW_PREFIX + removeAlias(keyName);
+    }
+
+    @Override
+    public Map<String, Order> getSortKeysWithoutAliases() {
+        return remainingPages.getSortKeysWithoutAliases();
+    }
+}
@@ -0,0 +1,456 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.DefaultFieldSet;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Delimited file reader working directly on a memory-mapped file.
+ *
+ * <p>Delimiters, quotes and line breaks are found by scanning bytes, and only the columns with a non-null
+ * name are decoded into Strings: fields without any byte above 0x7F take a Latin-1 copy (ASCII is a subset)
+ * instead of a full UTF-8 decode. The file is mapped in windows of {@code windowSize} bytes; a window is
+ * remapped at the start of the record that crosses its end, and doubled when a single record does not fit.</p>
+ *
+ * <p>The file must be UTF-8 or ASCII. Quoted fields may contain delimiters, line breaks and doubled quotes;
+ * blank lines are ignored. A record that cannot be parsed is passed over before the failure is thrown: an
+ * unterminated quoted field runs to the end of the file, and a record larger than the largest window resumes
+ * at the line break that follows it. Restart resumes at the byte offset following the last read record, stored
+ * in the ExecutionContext under {@code <name>.byte.offset} together with the line number. Not thread-safe.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class MappedCsvItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final String OFFSET_KEY = "byte.offset";
+    private static final String READ_COUNT_KEY = "read.count";
+    private static final String LINE_NUMBER_KEY = "line.number";
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private static final int QUOTED = 1;
+    private static final int ESCAPED = 2;
+    private static final int NON_ASCII = 4;
+
+    private final Path path;
+    private final byte[] delimiter;
+    private final byte quote;
+    private final int linesToSkip;
+    private final String[] names;
+    private final String[] mappedNames;
+    private final FieldSetMapper<T> fieldSetMapper;
+    private final int windowSize;
+
+    private boolean saveState = true;
+
+    // --- File state ---
+    private FileChannel channel;
+    private long fileSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int windowLength;
+    private long position;
+    private int readCount;
+    private long lineNumber;
+
+    // --- Current record, window-relative ---
+    private final int[] fieldStart;
+    private final int[] fieldEnd;
+    private final int[] fieldFlags;
+    private int fieldCount;
+    private int recordEnd;
+    private int nextRecord;
+    private byte[] scratch = new byte[256];
+
+    public MappedCsvItemReader(Path path, String delimiter, char quote, int linesToSkip,
+                               String[] names, FieldSetMapper<T> fieldSetMapper, int windowSize) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+        if (quote > 0x7F) {
+            throw new IllegalArgumentException("Quote character must be ASCII");
+        }
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be greater than zero");
+        }
+        this.path = path;
+        this.delimiter = delimiter.getBytes(StandardCharsets.UTF_8);
+        this.quote = (byte) quote;
+        this.linesToSkip = linesToSkip;
+        this.names = names.clone();
+        this.mappedNames = Arrays.stream(names).filter(name -> name != null).toArray(String[]::new);
+        this.fieldSetMapper = fieldSetMapper;
+        this.windowSize = windowSize;
+        this.fieldStart = new int[names.length];
+        this.fieldEnd = new int[names.length];
+        this.fieldFlags = new int[names.length];
+    }
+
+    public void setSaveState(boolean saveState) {
+        this.saveState = saveState;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        super.open(executionContext);
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            fileSize = channel.size();
+            window = null;
+
+            String offsetKey = getExecutionContextKey(OFFSET_KEY);
+            if (saveState && executionContext.containsKey(offsetKey)) {
+                position = executionContext.getLong(offsetKey);
+                readCount = executionContext.getInt(getExecutionContextKey(READ_COUNT_KEY), 0);
+                lineNumber = executionContext.getLong(getExecutionContextKey(LINE_NUMBER_KEY),
+                        (long) linesToSkip + readCount);
+                log.debug("Reader '{}' restarting at byte offset {} after {} items", getName(), position, readCount);
+            } else {
+                position = 0;
+                readCount = 0;
+                lineNumber = 0;
+                skipBom();
+                skipLines();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open file: " + path, e);
+        }
+    }
+
+    @Override
+    public T read() throws Exception {
+        while (position < fileSize) {
+            long recordStart = position;
+            try {
+                parseRecord(recordStart);
+            } catch (FlatFileParseException e) {
+                // position was moved past the record, so that skipping the failure does not parse it again
+                lineNumber++;
+                readCount++;
+                throw e;
+            }
+            position = windowStart + nextRecord;
+            lineNumber++;
+
+            if (isBlankRecord(recordStart)) {
+                continue;
+            }
+
+            readCount++;
+            if (fieldCount != names.length) {
+                String input = rawRecord(recordStart);
+                throw new FlatFileParseException(String.format(
+                        "Incorrect number of tokens found in record: expected %d actual %d at line %d in file [%s]",
+                        names.length, fieldCount, lineNumber, path), input, (int) lineNumber);
+            }
+
+            String[] values = new String[mappedNames.length];
+            for (int i = 0, v = 0; i < names.length; i++) {
+                if (names[i] != null) {
+                    values[v++] = decode(fieldStart[i], fieldEnd[i], fieldFlags[i]);
+                }
+            }
+
+            try {
+                return fieldSetMapper.mapFieldSet(new DefaultFieldSet(values, mappedNames));
+            } catch (Exception e) {
+                String input = rawRecord(recordStart);
+                throw new FlatFileParseException(String.format(
+                        "Parsing error at line: %d in file=[%s], input=[%s]", lineNumber, path, input),
+                        e, input, (int) lineNumber);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        if (saveState) {
+            executionContext.putLong(getExecutionContextKey(OFFSET_KEY), position);
+            executionContext.putInt(getExecutionContextKey(READ_COUNT_KEY), readCount);
+            executionContext.putLong(getExecutionContextKey(LINE_NUMBER_KEY), lineNumber);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        super.close();
+        // Mapped buffers are released by the GC once unreachable
+        window = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new ItemStreamException("Failed to close file: " + path, e);
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
+    // -------------------------
+    // Parsing
+    // -------------------------
+
+    /**
+     * Parses the record starting at the given file offset, remapping the window until the whole record fits.
+     * On failure, {@code position} is moved past the record.
+     */
+    private void parseRecord(long recordStart) throws IOException {
+        ensureWindow(recordStart);
+        while (!scanRecord((int) (recordStart - windowStart))) {
+            // The record crosses the window end: remap from its start, growing if it already was the start
+            if (windowStart == recordStart) {
+                long size = Math.min((long) windowLength * 2, Integer.MAX_VALUE - 8);
+                if (size <= windowLength) {
+                    FlatFileParseException e = new FlatFileParseException("Record larger than " + windowLength
+                            + " bytes at line " + (lineNumber + 1) + " in file [" + path + "]", "", (int) (lineNumber + 1));
+                    position = nextLine(windowStart + windowLength);
+                    throw e;
+                }
+                mapWindow(recordStart, size);
+            } else {
+                mapWindow(recordStart, windowSize);
+            }
+        }
+    }
+
+    /**
+     * Scans one record of the current window.
+     *
+     * @return {@code false} if the window ends before the record does and more of the file is available
+     */
+    private boolean scanRecord(int from) {
+        boolean lastWindow = windowStart + windowLength >= fileSize;
+        int limit = windowLength;
+        int i = from;
+        fieldCount = 0;
+
+        while (true) {
+            int start = i;
+            int end;
+            int flags = 0;
+
+            if (i < limit && window.get(i) == quote) {
+                // --- Quoted field: delimiters and line breaks are data until the closing quote ---
+                start = ++i;
+                while (true) {
+                    if (i >= limit) {
+                        if (lastWindow) {
+                            recordEnd = limit;
+                            position = fileSize;
+                            throw new FlatFileParseException("Unterminated quoted field at line " + (lineNumber + 1)
+                                    + " in file [" + path + "]", rawRecord(windowStart + from), (int) (lineNumber + 1));
+                        }
+                        return false;
+                    }
+                    byte b = window.get(i);
+                    if (b == quote) {
+                        if (i + 1 >= limit && !lastWindow) {
+                            return false;
+                        }
+                        if (i + 1 < limit && window.get(i + 1) == quote) {
+                            flags |= ESCAPED;
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    if (b < 0) {
+                        flags |= NON_ASCII;
+                    }
+                    i++;
+                }
+                end = i++;
+                flags |= QUOTED;
+                // Ignore anything between the closing quote and the next separator
+                while (i < limit && !isSeparator(i, limit)) {
+                    i++;
+                }
+            } else {
+                // --- Plain field ---
+                while (i < limit && !isSeparator(i, limit)) {
+                    if (window.get(i) < 0) {
+                        flags |= NON_ASCII;
+                    }
+                    i++;
+                }
+                end = i;
+            }
+
+            if (i >= limit && !lastWindow) {
+                return false;
+            }
+            if (fieldCount < fieldStart.length) {
+                fieldStart[fieldCount] = start;
+                fieldEnd[fieldCount] = end;
+                fieldFlags[fieldCount] = flags;
+            }
+            fieldCount++;
+
+            // --- Field terminator ---
+            if (i >= limit) {
+                recordEnd = i;
+                nextRecord = i;
+                return true;
+            }
+            byte b = window.get(i);
+            if (b == LF) {
+                recordEnd = i;
+                nextRecord = i + 1;
+                return true;
+            }
+            if (b == CR) {
+                if (i + 1 >= limit && !lastWindow) {
+                    return false;
+                }
+                recordEnd = i;
+                nextRecord = i + 1 < limit && window.get(i + 1) == LF ? i + 2 : i + 1;
+                return true;
+            }
+            i += delimiter.length;
+        }
+    }
+
+    private boolean isSeparator(int i, int limit) {
+        byte b = window.get(i);
+        if (b == LF || b == CR) {
+            return true;
+        }
+        if (b != delimiter[0]) {
+            return false;
+        }
+        if (delimiter.length == 1) {
+            return true;
+        }
+        if (i + delimiter.length > limit) {
+            return false;
+        }
+        for (int d = 1; d < delimiter.length; d++) {
+            if (window.get(i + d) != delimiter[d]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isBlankRecord(long recordStart) {
+        return fieldCount == 1 && fieldFlags[0] == 0 && recordEnd == (int) (recordStart - windowStart);
+    }
+
+    private String decode(int start, int end, int flags) {
+        int length = end - start;
+        if (length == 0) {
+            return "";
+        }
+        byte[] bytes = scratch(length);
+        window.get(start, bytes, 0, length);
+
+        if ((flags & ESCAPED) != 0) {
+            int w = 0;
+            for (int r = 0; r < length; r++) {
+                bytes[w++] = bytes[r];
+                if (bytes[r] == quote && r + 1 < length && bytes[r + 1] == quote) {
+                    r++;
+                }
+            }
+            length = w;
+        }
+
+        // ASCII is a subset of Latin-1, which String copies as is
+        return (flags & NON_ASCII) == 0
+                ? new String(bytes, 0, length, StandardCharsets.ISO_8859_1)
+                : new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private String rawRecord(long recordStart) {
+        int start = (int) (recordStart - windowStart);
+        int length = Math.max(0, recordEnd - start);
+        byte[] bytes = new byte[length];
+        window.get(start, bytes, 0, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // -------------------------
+    // Helper methods
+    // -------------------------
+
+    private void ensureWindow(long offset) throws IOException {
+        if (window == null || offset < windowStart || offset >= windowStart + windowLength) {
+            mapWindow(offset, windowSize);
+        }
+    }
+
+    private void mapWindow(long offset, long size) throws IOException {
+        int length = (int) Math.min(size, fileSize - offset);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        windowStart = offset;
+        windowLength = length;
+    }
+
+    private void skipBom() throws IOException {
+        if (fileSize >= 3) {
+            mapWindow(0, Math.max(windowSize, 3));
+            if (window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB && window.get(2) == (byte) 0xBF) {
+                position = 3;
+            }
+        }
+    }
+
+    private void skipLines() throws IOException {
+        for (int skipped = 0; skipped < linesToSkip && position < fileSize; skipped++) {
+            position = nextLine(position);
+            lineNumber++;
+        }
+    }
+
+    /**
+     * Returns the offset following the first line feed at or after the given offset, or the file size.
+     */
+    private long nextLine(long offset) throws IOException {
+        if (offset >= fileSize) {
+            return fileSize;
+        }
+        ensureWindow(offset);
+        int i = (int) (offset - windowStart);
+        while (true) {
+            if (i >= windowLength) {
+                if (windowStart + windowLength >= fileSize) {
+                    return fileSize;
+                }
+                // Continue the same line in the next window
+                mapWindow(windowStart + windowLength, windowSize);
+                i = 0;
+                continue;
+            }
+            if (window.get(i++) == LF) {
+                return windowStart + i;
+            }
+        }
+    }
+
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        return scratch;
+    }
+}
@@ -0,0 +1,169 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ParseException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reader decorator that reads ahead of the chunk on a background thread, so that reader I/O
+ * overlaps with processing and writing.
+ *
+ * <p>Items are kept in a bounded buffer. After every read the producer thread snapshots the
+ * delegate state, and {@link #update(ExecutionContext)} publishes the snapshot of the last
+ * <b>consumed</b> item: prefetched but unconsumed items are never checkpointed, so a restart
+ * resumes exactly after the last committed item.</p>
+ *
+ * <p>Read failures are rethrown by {@link #read()} at their position in the stream. The producer
+ * keeps reading after a {@link ParseException}, which the delegate has already moved past; any
+ * other failure ends the stream once rethrown.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class PrefetchingItemReader<T> implements ItemStreamReader<T> {
+
+    private static final Element<?> END = new Element<>(null, null, null);
+
+    private final ItemReader<T> delegate;
+    private final String name;
+    private final int capacity;
+
+    private volatile BlockingQueue<Element<T>> buffer;
+    private volatile Thread producer;
+    private volatile ExecutionContext lastConsumedState;
+
+    public PrefetchingItemReader(ItemReader<T> delegate, String name, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Prefetch capacity must be greater than zero");
+        }
+        this.delegate = delegate;
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    public ItemReader<T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.open(executionContext);
+        }
+        lastConsumedState = null;
+        buffer = new ArrayBlockingQueue<>(capacity);
+
+        Thread thread = new Thread(this::produce, name + "-prefetch");
+        thread.setDaemon(true);
+        producer = thread;
+        thread.start();
+        log.debug("Prefetching reader '{}' opened with a buffer of {} items", name, capacity);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T read() throws Exception {
+        BlockingQueue<Element<T>> queue = buffer;
+        if (queue == null) {
+            throw new IllegalStateException("Prefetching reader '" + name + "' has not been opened");
+        }
+
+        Element<T> element = queue.take();
+        if (element == END) {
+            // Leave the marker for any other consumer thread
+            queue.put((Element<T>) END);
+            return null;
+        }
+        Throwable error = element.error();
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error instanceof Exception failure) {
+            throw failure;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Prefetching reader '" + name + "' failed", error);
+        }
+        lastConsumedState = element.state();
+        return element.item();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        ExecutionContext state = lastConsumedState;
+        if (state != null) {
+            state.entrySet().forEach(entry -> executionContext.put(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        Thread thread = producer;
+        producer = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        buffer = null;
+        lastConsumedState = null;
+
+        if (delegate instanceof ItemStream stream) {
+            stream.close();
+        }
+        log.debug("Prefetching reader '{}' closed", name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void produce() {
+        BlockingQueue<Element<T>> queue = buffer;
+        Thread self = Thread.currentThread();
+        try {
+            while (producer == self) {
+                T item;
+                try {
+                    item = delegate.read();
+                } catch (ParseException e) {
+                    // The delegate moved past the unparsable record: surface it at the same position, skips may continue
+                    queue.put(new Element<>(null, snapshot(), e));
+                    continue;
+                } catch (Throwable t) {
+                    // Any other failure leaves the delegate unable to move forward: hand it over and stop reading
+                    log.debug("Prefetching reader '{}' stopped after a read failure", name, t);
+                    queue.put(new Element<>(null, null, t));
+                    queue.put((Element<T>) END);
+                    return;
+                }
+                if (item == null) {
+                    queue.put((Element<T>) END);
+                    return;
+                }
+                queue.put(new Element<>(item, snapshot(), null));
+            }
+        } catch (InterruptedException e) {
+            log.debug("Prefetching reader '{}' interrupted", name);
+        }
+    }
+
+    private ExecutionContext snapshot() {
+        if (!(delegate instanceof ItemStream stream)) {
+            return null;
+        }
+        ExecutionContext state = new ExecutionContext();
+        stream.update(state);
+        return state;
+    }
+
+    private record Element<T>(T item, ExecutionContext state, Throwable error) {
+    }
+}
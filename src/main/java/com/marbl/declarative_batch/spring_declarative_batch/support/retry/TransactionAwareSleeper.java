@@ -0,0 +1,65 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.retry;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Sleeper} of the retry back-off policies of a chunk step.
+ *
+ * <p>A stateful retry (the chunk write, or the processing of a transactional processor) backs off before
+ * the exception rolls the chunk back: sleeping there would keep the locks of the failed attempt. Inside a
+ * stateful retry with an active transaction the wait is therefore registered as a transaction
+ * synchronization and runs once the chunk has been rolled back, before the step retries it. Stateless
+ * retries sleep immediately. Each wait is recorded on the optional timer.</p>
+ */
+@Slf4j
+public class TransactionAwareSleeper implements Sleeper {
+
+    private final Timer timer;
+
+    /**
+     * @param timer records each wait, {@code null} when metrics are disabled
+     */
+    public TransactionAwareSleeper(Timer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public void sleep(long backOffPeriod) throws InterruptedException {
+        RetryContext context = RetrySynchronizationManager.getContext();
+        if (context != null && context.hasAttribute(RetryContext.STATE_KEY)
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    try {
+                        doSleep(backOffPeriod);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            log.debug("Retry back-off of {} ms deferred after the rollback of the chunk", backOffPeriod);
+            return;
+        }
+        doSleep(backOffPeriod);
+    }
+
+    private void doSleep(long backOffPeriod) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(backOffPeriod);
+        } finally {
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
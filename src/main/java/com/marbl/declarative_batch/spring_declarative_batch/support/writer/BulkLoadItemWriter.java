@@ -0,0 +1,272 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.file.transform.FieldExtractor;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * {@link ItemWriter} that loads each chunk with the native bulk loader of the target database instead of
+ * row-by-row inserts.
+ *
+ * <p>The chunk is rendered as CSV and streamed to PostgreSQL {@code COPY ... FROM STDIN}, MySQL/MariaDB
+ * {@code LOAD DATA LOCAL INFILE} (the connection must allow {@code allowLoadLocalInfile}) or H2
+ * {@code CSVREAD} through a temporary file. Any other database uses a JDBC batch insert. The connection is
+ * taken from the step transaction, so a failed chunk is rolled back as a whole. Thread-safe.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class BulkLoadItemWriter<T> implements ItemWriter<T> {
+
+    /**
+     * Bulk loader used for each chunk.
+     */
+    public enum Loader {
+        POSTGRES_COPY, MYSQL_LOAD_DATA, H2_CSVREAD, JDBC_BATCH;
+
+        /**
+         * Returns the native loader for a datasource {@code type}, {@link #JDBC_BATCH} when there is none.
+         */
+        public static Loader forType(String type) {
+            return switch (type == null ? "" : type.toLowerCase()) {
+                case "postgres", "postgresql" -> POSTGRES_COPY;
+                case "mysql", "mariadb" -> MYSQL_LOAD_DATA;
+                case "h2" -> H2_CSVREAD;
+                default -> JDBC_BATCH;
+            };
+        }
+    }
+
+    private static final String MYSQL_STATEMENT_CLASS = "com.mysql.cj.jdbc.JdbcStatement";
+
+    // Literal formats parsed by all the loaders: ISO date and time separated by a space
+    private static final DateTimeFormatter TIMESTAMP = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter();
+    private static final DateTimeFormatter TIMESTAMP_WITH_OFFSET = new DateTimeFormatterBuilder()
+            .append(TIMESTAMP)
+            .appendOffset("+HH:MM", "+00:00")
+            .toFormatter();
+
+    private final DataSource dataSource;
+    private final String table;
+    private final List<String> columns;
+    private final FieldExtractor<T> fieldExtractor;
+    private final Loader loader;
+    private final String sql;
+
+    private Method setLocalInfileInputStream;
+
+    public BulkLoadItemWriter(DataSource dataSource, String table, List<String> columns,
+                              FieldExtractor<T> fieldExtractor, Loader loader) {
+        this.dataSource = dataSource;
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.fieldExtractor = fieldExtractor;
+        this.loader = loader == Loader.MYSQL_LOAD_DATA && !mysqlDriverAvailable() ? Loader.JDBC_BATCH : loader;
+        this.sql = createSql(this.loader);
+    }
+
+    public Loader getLoader() {
+        return loader;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            long loaded = switch (loader) {
+                case POSTGRES_COPY -> copy(connection, chunk);
+                case MYSQL_LOAD_DATA -> loadData(connection, chunk);
+                case H2_CSVREAD -> csvRead(connection, chunk);
+                case JDBC_BATCH -> batchInsert(connection, chunk);
+            };
+            if (loaded != chunk.size()) {
+                throw new IllegalStateException(String.format(
+                        "Bulk load into '%s' wrote %d rows for %d items", table, loaded, chunk.size()));
+            }
+            log.debug("Loaded {} rows into '{}' ({})", loaded, table, loader);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private long copy(Connection connection, Chunk<? extends T> chunk) throws Exception {
+        String data = toCsv(chunk, "");
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(data));
+    }
+
+    private long loadData(Connection connection, Chunk<? extends T> chunk) throws Exception {
+        byte[] data = toCsv(chunk, "NULL").getBytes(StandardCharsets.UTF_8);
+        try (Statement statement = connection.createStatement()) {
+            Object mysqlStatement = statement.unwrap(Class.forName(MYSQL_STATEMENT_CLASS));
+            setLocalInfileInputStream.invoke(mysqlStatement, new ByteArrayInputStream(data));
+            return statement.executeUpdate(sql);
+        }
+    }
+
+    private long csvRead(Connection connection, Chunk<? extends T> chunk) throws Exception {
+        Path file = Files.createTempFile("bulk-load-", ".csv");
+        try {
+            Files.writeString(file, toCsv(chunk, ""), StandardCharsets.UTF_8);
+            // CSVREAD takes the file name as a literal only
+            String fileName = file.toAbsolutePath().toString().replace("'", "''");
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(sql.replace("CSVREAD(?", "CSVREAD('" + fileName + "'"));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private long batchInsert(Connection connection, Chunk<? extends T> chunk) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (T item : chunk) {
+                Object[] values = fieldExtractor.extract(item);
+                for (int i = 0; i < values.length; i++) {
+                    StatementCreatorUtils.setParameterValue(statement, i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+                }
+                statement.addBatch();
+            }
+            long total = 0;
+            for (int count : statement.executeBatch()) {
+                // SUCCESS_NO_INFO: the driver does not report counts, trust the batch
+                total += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Renders the chunk as RFC 4180 CSV: every value is quoted, {@code null} is written as the unquoted
+     * {@code nullToken}, so empty strings and nulls stay distinct.
+     */
+    private String toCsv(Chunk<? extends T> chunk, String nullToken) {
+        StringBuilder out = new StringBuilder(chunk.size() * 64);
+        for (T item : chunk) {
+            Object[] values = fieldExtractor.extract(item);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendValue(out, values[i], nullToken);
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void appendValue(StringBuilder out, Object value, String nullToken) {
+        if (value == null) {
+            out.append(nullToken);
+            return;
+        }
+        String text = format(value);
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    /**
+     * Formats a value as the literal the loaders parse. A {@link java.util.Date} that is not a JDBC type is
+     * rendered in the JVM time zone, as JDBC binds it.
+     */
+    private static String format(Object value) {
+        if (value instanceof Boolean b) {
+            return b ? "1" : "0";
+        } else if (value instanceof BigDecimal d) {
+            return d.toPlainString();
+        } else if (value instanceof Timestamp t) {
+            return TIMESTAMP.format(t.toLocalDateTime());
+        } else if (value instanceof java.sql.Date d) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(d.toLocalDate());
+        } else if (value instanceof java.sql.Time t) {
+            return DateTimeFormatter.ISO_LOCAL_TIME.format(t.toLocalTime());
+        } else if (value instanceof Date d) {
+            return TIMESTAMP.format(LocalDateTime.ofInstant(d.toInstant(), ZoneId.systemDefault()));
+        } else if (value instanceof LocalDateTime t) {
+            return TIMESTAMP.format(t);
+        } else if (value instanceof LocalDate d) {
+            return DateTimeFormatter.ISO_LOCAL_DATE.format(d);
+        } else if (value instanceof LocalTime t) {
+            return DateTimeFormatter.ISO_LOCAL_TIME.format(t);
+        } else if (value instanceof OffsetDateTime t) {
+            return TIMESTAMP_WITH_OFFSET.format(t);
+        } else if (value instanceof ZonedDateTime t) {
+            return TIMESTAMP_WITH_OFFSET.format(t.toOffsetDateTime());
+        } else if (value instanceof Instant t) {
+            return TIMESTAMP_WITH_OFFSET.format(t.atOffset(ZoneOffset.UTC));
+        }
+        return value.toString();
+    }
+
+    private String createSql(Loader loader) {
+        String columnList = String.join(", ", columns);
+        return switch (loader) {
+            case POSTGRES_COPY -> "COPY " + table + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)";
+            case MYSQL_LOAD_DATA -> "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + table
+                    + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+                    + " LINES TERMINATED BY '\\n' (" + columnList + ")";
+            case H2_CSVREAD -> "INSERT INTO " + table + " (" + columnList + ") SELECT * FROM CSVREAD(?, '"
+                    + IntStream.rangeClosed(1, columns.size()).mapToObj(i -> "C" + i).collect(Collectors.joining(","))
+                    + "', 'charset=UTF-8 fieldSeparator=, escape=\" nullString=')";
+            case JDBC_BATCH -> "INSERT INTO " + table + " (" + columnList + ") VALUES ("
+                    + columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+        };
+    }
+
+    private boolean mysqlDriverAvailable() {
+        try {
+            setLocalInfileInputStream = Class.forName(MYSQL_STATEMENT_CLASS)
+                    .getMethod("setLocalInfileInputStream", InputStream.class);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            log.warn("MySQL Connector/J not found on the classpath, bulk load into '{}' falls back to JDBC batch inserts", table);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.writer;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.Collection;
+
+/**
+ * Base class of writers built on delegate writers: forwards the {@link ItemStream} and
+ * {@link StepExecutionListener} callbacks received by the step to the delegates implementing them.
+ *
+ * @param <T> the item type
+ */
+abstract class DelegatingItemStreamWriter<T> implements ItemStreamWriter<T>, StepExecutionListener {
+
+    /**
+     * Returns the delegate writers, each one once.
+     */
+    protected abstract Collection<? extends ItemWriter<T>> delegateWriters();
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        for (ItemWriter<T> writer : delegateWriters()) {
+            if (writer instanceof ItemStream stream) {
+                stream.open(executionContext);
+            }
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        for (ItemWriter<T> writer : delegateWriters()) {
+            if (writer instanceof ItemStream stream) {
+                stream.update(executionContext);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        for (ItemWriter<T> writer : delegateWriters()) {
+            if (writer instanceof ItemStream stream) {
+                stream.close();
+            }
+        }
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        for (ItemWriter<T> writer : delegateWriters()) {
+            if (writer instanceof StepExecutionListener listener) {
+                listener.beforeStep(stepExecution);
+            }
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        ExitStatus status = null;
+        for (ItemWriter<T> writer : delegateWriters()) {
+            if (writer instanceof StepExecutionListener listener) {
+                ExitStatus delegateStatus = listener.afterStep(stepExecution);
+                if (delegateStatus != null) {
+                    status = status == null ? delegateStatus : status.and(delegateStatus);
+                }
+            }
+        }
+        return status;
+    }
+}
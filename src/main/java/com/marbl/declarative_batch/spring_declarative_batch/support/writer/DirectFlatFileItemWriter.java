@@ -0,0 +1,37 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.support.mapping.DirectLineAggregator;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.file.FlatFileItemWriter;
+
+/**
+ * {@link FlatFileItemWriter} that renders a whole chunk into a single reused {@link StringBuilder}
+ * through a {@link DirectLineAggregator}, instead of building an array and a String per line.
+ *
+ * <p>The builder keeps its capacity between chunks, so after the first chunks writing allocates only the
+ * chunk text handed to the output. Not thread-safe, like {@link FlatFileItemWriter}.</p>
+ *
+ * @param <T> the item type
+ */
+public class DirectFlatFileItemWriter<T> extends FlatFileItemWriter<T> {
+
+    private final DirectLineAggregator<T> aggregator;
+    private final StringBuilder lines;
+
+    public DirectFlatFileItemWriter(DirectLineAggregator<T> aggregator, int initialCapacity) {
+        this.aggregator = aggregator;
+        this.lines = new StringBuilder(initialCapacity);
+        setLineAggregator(aggregator);
+    }
+
+    @Override
+    public String doWrite(Chunk<? extends T> items) {
+        StringBuilder out = lines;
+        out.setLength(0);
+        for (T item : items) {
+            aggregator.append(out, item);
+            out.append(this.lineSeparator);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Writer handing every chunk to several delegates, writing the {@code concurrent} ones on a bounded
+ * {@link TaskExecutor}.
+ *
+ * <p>{@link #write(Chunk)} returns only when every delegate is done, so the chunk is committed after all the
+ * targets have been written. The transaction of the chunk is bound to the step thread: by default delegates
+ * are written on the calling thread and take part in it. Delegates marked {@code concurrent} run on the
+ * executor, outside the transaction, while the others are written; they must be non-transactional sinks
+ * (e.g. files or Kafka), since a rolled back or retried chunk is written to them again. A failure of a
+ * required delegate fails the chunk, once all the delegates have finished; failures of {@code optional}
+ * delegates are only logged.</p>
+ *
+ * <p>Delegates that are {@link ItemStream}s or {@link StepExecutionListener}s receive the callbacks of the
+ * composite.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class ParallelCompositeItemWriter<T> extends DelegatingItemStreamWriter<T> {
+
+    /**
+     * A delegate writer and how it takes part in the chunk.
+     */
+    public record Delegate<T>(String name, ItemWriter<T> writer, boolean concurrent, boolean optional) {
+    }
+
+    private final List<Delegate<T>> delegates;
+    private final TaskExecutor taskExecutor;
+
+    public ParallelCompositeItemWriter(List<Delegate<T>> delegates, TaskExecutor taskExecutor) {
+        this.delegates = List.copyOf(delegates);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(delegates.size());
+        List<Delegate<T>> concurrent = new ArrayList<>(delegates.size());
+        for (Delegate<T> delegate : delegates) {
+            if (delegate.concurrent()) {
+                concurrent.add(delegate);
+                // Each delegate gets its own chunk, writers may change it
+                futures.add(CompletableFuture.runAsync(() -> writeTo(delegate, chunk), taskExecutor));
+            }
+        }
+
+        Exception failure = null;
+        for (Delegate<T> delegate : delegates) {
+            if (!delegate.concurrent()) {
+                try {
+                    delegate.writer().write(new Chunk<>(chunk.getItems()));
+                } catch (Exception e) {
+                    failure = handle(delegate, e, failure);
+                }
+            }
+        }
+
+        // Wait for every concurrent write: the chunk must not commit while a delegate is still writing
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                failure = handle(concurrent.get(i), cause instanceof Exception ex ? ex : new IllegalStateException(cause), failure);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void writeTo(Delegate<T> delegate, Chunk<? extends T> chunk) {
+        try {
+            delegate.writer().write(new Chunk<>(chunk.getItems()));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Logs the failure of an optional delegate, or returns the failure to rethrow with the new one attached.
+     */
+    private Exception handle(Delegate<T> delegate, Exception e, Exception failure) {
+        if (delegate.optional()) {
+            log.warn("Optional writer '{}' failed, chunk continues: {}", delegate.name(), e.getMessage());
+            log.debug("Optional writer '{}' failure", delegate.name(), e);
+            return failure;
+        }
+        log.error("Writer '{}' failed: {}", delegate.name(), e.getMessage());
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
+    @Override
+    protected List<ItemWriter<T>> delegateWriters() {
+        return delegates.stream().map(Delegate::writer).toList();
+    }
+}
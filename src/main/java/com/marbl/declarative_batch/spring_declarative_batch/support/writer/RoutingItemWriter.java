@@ -0,0 +1,72 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.classify.Classifier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer splitting each chunk by route: a {@link Classifier} maps every item to a route key, the items are
+ * grouped in one pass, keeping their order, and each route writer is called once with its sub-chunk, so
+ * JDBC writers still send a single batch per route.
+ *
+ * <p>Items whose route has no writer go to the default route; without one the chunk fails.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class RoutingItemWriter<T> extends DelegatingItemStreamWriter<T> {
+
+    private final Classifier<? super T, String> router;
+    private final Map<String, ItemWriter<T>> routes;
+    private final String defaultRoute;
+
+    /**
+     * @param routes       writers by route key
+     * @param defaultRoute key of the writer receiving items of unknown routes, or {@code null}
+     */
+    public RoutingItemWriter(Classifier<? super T, String> router, Map<String, ItemWriter<T>> routes, String defaultRoute) {
+        if (defaultRoute != null && !routes.containsKey(defaultRoute)) {
+            throw new IllegalArgumentException("Default route '" + defaultRoute + "' has no writer, routes: " + routes.keySet());
+        }
+        this.router = router;
+        this.routes = new LinkedHashMap<>(routes);
+        this.defaultRoute = defaultRoute;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        Map<String, List<T>> byRoute = new LinkedHashMap<>();
+        for (T item : chunk) {
+            byRoute.computeIfAbsent(resolve(item), route -> new ArrayList<>()).add(item);
+        }
+        for (Map.Entry<String, List<T>> entry : byRoute.entrySet()) {
+            log.debug("Writing {} items to route '{}'", entry.getValue().size(), entry.getKey());
+            routes.get(entry.getKey()).write(new Chunk<>(entry.getValue()));
+        }
+    }
+
+    private String resolve(T item) {
+        String route = router.classify(item);
+        if (route != null && routes.containsKey(route)) {
+            return route;
+        }
+        if (defaultRoute == null) {
+            throw new IllegalStateException("No writer for route '" + route + "' of item: " + item);
+        }
+        return defaultRoute;
+    }
+
+    @Override
+    protected Collection<ItemWriter<T>> delegateWriters() {
+        // A writer may serve several routes
+        return new LinkedHashSet<>(routes.values());
+    }
+}
@@ -0,0 +1,289 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * {@link JdbcBatchItemWriter} that executes a chunk as bounded sub-batches and can rewrite a single-row
+ * {@code INSERT ... VALUES (?, ...)} into multi-row {@code VALUES (...), (...)} statements.
+ *
+ * <p>Each sub-batch of at most {@code batchSize} items is sent with its own {@code executeBatch}; with
+ * {@code rowsPerStatement > 1} it is made of statements binding that many items each, plus single-row
+ * statements for the remainder. The {@link org.springframework.batch.item.database.ItemPreparedStatementSetter}
+ * is unchanged: for the n-th row of a statement its parameter indexes are shifted by n times the parameters
+ * of one row. Only positional SQL whose parameters are all inside the {@code VALUES} tuple can be rewritten,
+ * other statements are executed one row per statement.</p>
+ *
+ * <p>Sub-batch timings are logged at debug level and summarized after each step execution, including the
+ * concurrent executions of a partitioned step sharing the writer. Thread-safe, like
+ * {@link JdbcBatchItemWriter}.</p>
+ *
+ * @param <T> the item type
+ */
+@Slf4j
+public class TunedJdbcBatchItemWriter<T> extends JdbcBatchItemWriter<T> implements StepExecutionListener {
+
+    private final int batchSize;
+    private final int rowsPerStatement;
+
+    private String multiRowSql;
+    private int parametersPerRow;
+
+    // Partition workers share the writer: timings are kept per step execution, from beforeStep to afterStep
+    private final Map<StepExecution, Timings> timings = new ConcurrentHashMap<>();
+
+    /**
+     * @param batchSize        maximum items per {@code executeBatch}, {@code 0} for the whole chunk
+     * @param rowsPerStatement rows bound by each INSERT statement, {@code 1} to disable the rewriting
+     */
+    public TunedJdbcBatchItemWriter(int batchSize, int rowsPerStatement) {
+        this.batchSize = batchSize;
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (rowsPerStatement > 1) {
+            if (usingNamedParameters || itemPreparedStatementSetter == null) {
+                log.warn("Multi-row rewriting requires positional parameters and an ItemPreparedStatementSetter, "
+                        + "executing one row per statement: {}", sql);
+            } else {
+                multiRowSql = rewriteMultiRow(sql, rowsPerStatement);
+                if (multiRowSql == null) {
+                    log.warn("SQL is not a single-row INSERT ... VALUES (?, ...), executing one row per statement: {}", sql);
+                } else {
+                    parametersPerRow = parameterCount;
+                    log.debug("Multi-row SQL ({} rows per statement): {}", rowsPerStatement, multiRowSql);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        if (usingNamedParameters) {
+            // Named parameters go through NamedParameterJdbcTemplate, only the sub-batching applies
+            for (List<? extends T> items : subBatches(chunk.getItems())) {
+                long start = System.nanoTime();
+                super.write(new Chunk<>(items));
+                record(items.size(), 0, start);
+            }
+            return;
+        }
+        namedParameterJdbcTemplate.getJdbcOperations().execute((ConnectionCallback<Void>) connection -> {
+            writeItems(connection, chunk.getItems());
+            return null;
+        });
+    }
+
+    private void writeItems(Connection connection, List<? extends T> items) throws SQLException {
+        int multiRows = multiRowSql != null ? rowsPerStatement : 1;
+        try (PreparedStatement single = connection.prepareStatement(sql);
+             PreparedStatement multi = multiRows > 1 ? connection.prepareStatement(multiRowSql) : null) {
+            PreparedStatement[] shifted = multi != null ? shiftedViews(multi, multiRows) : null;
+            int offset = 0;
+            for (List<? extends T> batch : subBatches(items)) {
+                long start = System.nanoTime();
+                int statements = multi != null ? batch.size() / multiRows : 0;
+                if (statements > 0) {
+                    for (int s = 0; s < statements; s++) {
+                        for (int r = 0; r < multiRows; r++) {
+                            itemPreparedStatementSetter.setValues(batch.get(s * multiRows + r), shifted[r]);
+                        }
+                        multi.addBatch();
+                    }
+                    verify(multi.executeBatch(), multiRows, batch, offset, items.size());
+                }
+                int first = statements * multiRows;
+                if (first < batch.size()) {
+                    for (int i = first; i < batch.size(); i++) {
+                        itemPreparedStatementSetter.setValues(batch.get(i), single);
+                        single.addBatch();
+                    }
+                    verify(single.executeBatch(), 1, batch.subList(first, batch.size()), offset + first, items.size());
+                }
+                record(batch.size(), statements, start);
+                offset += batch.size();
+            }
+        }
+    }
+
+    /**
+     * Checks the update counts of a batch; each statement is expected to write {@code rows} rows.
+     */
+    private void verify(int[] counts, int rows, List<? extends T> items, int offset, int total) {
+        if (!assertUpdates) {
+            return;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            // SUCCESS_NO_INFO: the driver does not report counts (e.g. reWriteBatchedInserts)
+            if (counts[i] != Statement.SUCCESS_NO_INFO && counts[i] < rows) {
+                int item = offset + i * rows;
+                throw new EmptyResultDataAccessException(rows == 1
+                        ? String.format("Item %d of %d did not update any rows: [%s]", item, total, items.get(i))
+                        : String.format("Statement with items %d-%d of %d updated %d rows instead of %d",
+                        item, item + rows - 1, total, counts[i], rows), rows);
+            }
+        }
+    }
+
+    private List<? extends List<? extends T>> subBatches(List<? extends T> items) {
+        if (batchSize <= 0 || items.size() <= batchSize) {
+            return List.of(items);
+        }
+        int count = (items.size() + batchSize - 1) / batchSize;
+        return IntStream.range(0, count)
+                .mapToObj(i -> items.subList(i * batchSize, Math.min(items.size(), (i + 1) * batchSize)))
+                .toList();
+    }
+
+    private void record(int items, int multiRowStatements, long start) {
+        long nanos = System.nanoTime() - start;
+        StepContext context = StepSynchronizationManager.getContext();
+        Timings current = context != null ? timings.get(context.getStepExecution()) : null;
+        if (current != null) {
+            current.record(nanos);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Sub-batch of {} items ({} multi-row statements) executed in {} ms",
+                    items, multiRowStatements, TimeUnit.NANOSECONDS.toMillis(nanos));
+        }
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        timings.put(stepExecution, new Timings());
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Timings current = timings.remove(stepExecution);
+        long count = current != null ? current.batches.sum() : 0;
+        if (count > 0) {
+            log.info("Step '{}' JDBC writer: {} sub-batches, avg {} ms, max {} ms",
+                    stepExecution.getStepName(), count,
+                    String.format(Locale.ROOT, "%.2f", current.batchNanos.sum() / 1e6 / count),
+                    TimeUnit.NANOSECONDS.toMillis(current.maxBatchNanos.get()));
+        }
+        return null;
+    }
+
+    /**
+     * Returns one view of the statement per row, shifting the parameter index of every {@code setXxx(int, ...)}.
+     */
+    private PreparedStatement[] shiftedViews(PreparedStatement statement, int rows) {
+        PreparedStatement[] views = new PreparedStatement[rows];
+        views[0] = statement;
+        for (int r = 1; r < rows; r++) {
+            int shift = r * parametersPerRow;
+            views[r] = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                                && method.getParameterTypes()[0] == int.class) {
+                            args[0] = (Integer) args[0] + shift;
+                        }
+                        try {
+                            return method.invoke(statement, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+        return views;
+    }
+
+    /**
+     * Rewrites {@code INSERT ... VALUES (?, ...)} into a statement with {@code rows} value tuples, or returns
+     * {@code null} when the SQL is not a single-row insert with all its parameters in the tuple.
+     */
+    static String rewriteMultiRow(String sql, int rows) {
+        String trimmed = sql.strip();
+        if (trimmed.endsWith(";")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).strip();
+        }
+        String upper = trimmed.toUpperCase(Locale.ROOT);
+        int values = upper.indexOf("VALUES");
+        if (!upper.startsWith("INSERT") || values < 0 || upper.indexOf("VALUES", values + 1) >= 0) {
+            return null;
+        }
+        int open = trimmed.indexOf('(', values);
+        if (open < 0 || !trimmed.substring(values + 6, open).isBlank()) {
+            return null;
+        }
+        int close = closingParenthesis(trimmed, open);
+        if (close < 0) {
+            return null;
+        }
+        String prefix = trimmed.substring(0, open);
+        String tuple = trimmed.substring(open, close + 1);
+        String suffix = trimmed.substring(close + 1);
+        if (prefix.indexOf('?') >= 0 || suffix.indexOf('?') >= 0 || suffix.strip().startsWith(",")) {
+            return null;
+        }
+        StringBuilder out = new StringBuilder(prefix.length() + (tuple.length() + 2) * rows + suffix.length());
+        out.append(prefix);
+        for (int r = 0; r < rows; r++) {
+            if (r > 0) {
+                out.append(", ");
+            }
+            out.append(tuple);
+        }
+        return out.append(suffix).toString();
+    }
+
+    private static int closingParenthesis(String sql, int open) {
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = open; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Timings {
+
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder batchNanos = new LongAdder();
+        private final LongAccumulator maxBatchNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            batches.increment();
+            batchNanos.add(nanos);
+            maxBatchNanos.accumulate(nanos);
+        }
+    }
+}
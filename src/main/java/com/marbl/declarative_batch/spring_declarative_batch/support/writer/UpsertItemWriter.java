@@ -0,0 +1,48 @@
+package com.marbl.declarative_batch.spring_declarative_batch.support.writer;
+
+import com.marbl.declarative_batch.spring_declarative_batch.enums.PagingProviderType;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.file.transform.BeanWrapperFieldExtractor;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * {@link JdbcBatchItemWriter} inserting each item or updating the existing row with the same key, through
+ * the upsert statement of a {@link PagingProviderType} dialect ({@code INSERT ... ON CONFLICT},
+ * {@code ON DUPLICATE KEY UPDATE} or {@code MERGE}). The whole chunk is sent as one JDBC batch.
+ *
+ * <p>Update counts are not asserted: depending on the database an upsert leaving a row unchanged reports
+ * no updated rows.</p>
+ *
+ * @param <T> the item type
+ */
+public class UpsertItemWriter<T> extends JdbcBatchItemWriter<T> {
+
+    /**
+     * @param fieldNames item properties bound to the key columns followed by the value columns
+     */
+    public UpsertItemWriter(DataSource dataSource, PagingProviderType dialect, String table,
+                            List<String> keyColumns, List<String> valueColumns, List<String> fieldNames) {
+        BeanWrapperFieldExtractor<T> extractor = new BeanWrapperFieldExtractor<>();
+        extractor.setNames(fieldNames.toArray(String[]::new));
+        extractor.afterPropertiesSet();
+
+        setDataSource(dataSource);
+        setSql(dialect.upsertSql(table, keyColumns, valueColumns));
+        setItemPreparedStatementSetter((item, ps) -> {
+            Object[] values = extractor.extract(item);
+            for (int i = 0; i < values.length; i++) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, values[i]);
+            }
+        });
+        setAssertUpdates(false);
+        afterPropertiesSet();
+    }
+
+    public String getSql() {
+        return sql;
+    }
+}
@@ -1,6 +1,7 @@
 package com.marbl.declarative_batch.spring_declarative_batch.utils;
 
-
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.datasource.BatchDatasourceConfig;
+import com.marbl.declarative_batch.spring_declarative_batch.configuration.datasource.DataSourceConfig;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationContext;
@@ -22,4 +23,16 @@ public class DatasourceUtils {
         }
         return ds;
     }
+
+    /**
+     * Returns the {@code type} of a datasource as declared in the configuration, one of {@code postgres},
+     * {@code oracle}, {@code h2}, {@code mysql} or {@code mariadb} in any case: callers compare it ignoring case.
+     */
+    public String getDataSourceType(ApplicationContext context, String dataSourceName) {
+        DataSourceConfig cfg = context.getBean(BatchDatasourceConfig.class).getDatasources().get(dataSourceName);
+        if (cfg == null) {
+            throw new IllegalArgumentException("Datasource not found in configuration: " + dataSourceName);
+        }
+        return cfg.getType();
+    }
 }
@@ -0,0 +1,41 @@
+package com.marbl.declarative_batch.spring_declarative_batch.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@UtilityClass
+public class PropertyNameUtils {
+
+    /**
+     * Normalizes a column or property name the way {@code BeanWrapperFieldSetMapper} matches them leniently:
+     * case, underscores and dashes are ignored.
+     */
+    public String normalize(String name) {
+        return name.replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the normalized names of the values a class can be populated with:
+     * record components for records, properties with a setter otherwise.
+     */
+    public Set<String> writableProperties(Class<?> type) {
+        if (type.isRecord()) {
+            return Arrays.stream(type.getRecordComponents())
+                    .map(RecordComponent::getName)
+                    .map(PropertyNameUtils::normalize)
+                    .collect(Collectors.toSet());
+        }
+        return Arrays.stream(BeanUtils.getPropertyDescriptors(type))
+                .filter(descriptor -> descriptor.getWriteMethod() != null)
+                .map(PropertyDescriptor::getName)
+                .map(PropertyNameUtils::normalize)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,24 @@
+package com.marbl.declarative_batch.spring_declarative_batch.utils;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.util.StringUtils;
+
+@UtilityClass
+public class SqlClauseUtils {
+
+    /**
+     * Removes a leading SQL keyword (e.g. "FROM", "WHERE") from a clause, case-insensitively.
+     * Mirrors what the Spring Batch paging query providers accept, so clauses can be reused in custom queries.
+     */
+    public String removeKeyword(String keyword, String clause) {
+        if (!StringUtils.hasText(clause)) {
+            return clause;
+        }
+        String trimmed = clause.trim();
+        if (trimmed.regionMatches(true, 0, keyword, 0, keyword.length())
+                && (trimmed.length() == keyword.length() || Character.isWhitespace(trimmed.charAt(keyword.length())))) {
+            return trimmed.substring(keyword.length()).trim();
+        }
+        return trimmed;
+    }
+}